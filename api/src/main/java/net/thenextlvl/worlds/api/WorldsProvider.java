@@ -1,7 +1,13 @@
 package net.thenextlvl.worlds.api;
 
 import net.thenextlvl.worlds.api.link.LinkController;
+import net.thenextlvl.worlds.api.load.LoadController;
 import net.thenextlvl.worlds.api.model.LevelBuilder;
+import net.thenextlvl.worlds.api.pool.PoolController;
+import net.thenextlvl.worlds.api.pregeneration.PregenerationController;
+import net.thenextlvl.worlds.api.snapshot.SnapshotController;
+import net.thenextlvl.worlds.api.statistics.StatisticsController;
+import net.thenextlvl.worlds.api.usage.DiskUsageController;
 import net.thenextlvl.worlds.api.view.GeneratorView;
 import net.thenextlvl.worlds.api.view.LevelView;
 import org.bukkit.plugin.Plugin;
@@ -11,6 +17,10 @@ import java.io.File;
 
 @NullMarked
 public interface WorldsProvider extends Plugin {
+    default DiskUsageController diskUsageController() {
+        throw new UnsupportedOperationException("diskUsageController");
+    }
+
     GeneratorView generatorView();
 
     LevelBuilder levelBuilder(File level);
@@ -18,4 +28,24 @@ public interface WorldsProvider extends Plugin {
     LevelView levelView();
 
     LinkController linkController();
+
+    default LoadController loadController() {
+        throw new UnsupportedOperationException("loadController");
+    }
+
+    default PoolController poolController() {
+        throw new UnsupportedOperationException("poolController");
+    }
+
+    default PregenerationController pregenerationController() {
+        throw new UnsupportedOperationException("pregenerationController");
+    }
+
+    default SnapshotController snapshotController() {
+        throw new UnsupportedOperationException("snapshotController");
+    }
+
+    default StatisticsController statisticsController() {
+        throw new UnsupportedOperationException("statisticsController");
+    }
 }
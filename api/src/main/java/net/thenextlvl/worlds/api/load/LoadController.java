@@ -0,0 +1,37 @@
+package net.thenextlvl.worlds.api.load;
+
+import net.kyori.adventure.key.Key;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@NullMarked
+public interface LoadController {
+    /**
+     * Resolves the world with the given key, creating it first if it is a dormant level.
+     * <p>
+     * The future completes on the main thread once the world is available,
+     * or exceptionally if the key belongs to neither a loaded world nor a dormant level.
+     *
+     * @param key the key of the world
+     * @return a future completing with the loaded world
+     */
+    CompletableFuture<World> load(Key key);
+
+    /**
+     * Retrieves the keys of all levels that are known but not yet loaded.
+     *
+     * @return an unmodifiable snapshot of the dormant level keys
+     */
+    Set<Key> getDormantLevels();
+
+    /**
+     * Checks whether the given key belongs to a known level that is not loaded yet.
+     *
+     * @param key the key of the world
+     * @return true if the level will be created on first use
+     */
+    boolean isDormant(Key key);
+}
@@ -36,7 +36,19 @@ public interface Level extends Keyed {
 
     boolean importedBefore();
 
+    default boolean lazy() {
+        return false;
+    }
+
     boolean structures();
 
+    default int deferTicks() {
+        return 0;
+    }
+
+    default int priority() {
+        return 0;
+    }
+
     long seed();
 }
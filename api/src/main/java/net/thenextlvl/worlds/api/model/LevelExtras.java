@@ -8,6 +8,12 @@ import org.jspecify.annotations.Nullable;
 public record LevelExtras(
         @Nullable NamespacedKey key,
         @Nullable Generator generator,
-        boolean enabled
+        boolean enabled,
+        boolean lazy,
+        int priority,
+        int deferTicks
 ) {
+    public LevelExtras(@Nullable NamespacedKey key, @Nullable Generator generator, boolean enabled) {
+        this(key, generator, enabled, false, 0, 0);
+    }
 }
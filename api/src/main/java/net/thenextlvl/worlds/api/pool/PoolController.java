@@ -0,0 +1,56 @@
+package net.thenextlvl.worlds.api.pool;
+
+import net.kyori.adventure.key.Key;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Optional;
+import java.util.Set;
+
+@NullMarked
+public interface PoolController {
+    /**
+     * Retrieves the pool of the given template.
+     *
+     * @param template the key of the template world
+     * @return an optional containing the pool, or empty if the template is not pooled
+     */
+    Optional<TemplatePool> getPool(Key template);
+
+    /**
+     * Retrieves the pool the given world was leased from.
+     *
+     * @param instance the leased world
+     * @return an optional containing the pool, or empty if the world is not a pooled instance
+     */
+    Optional<TemplatePool> getInstancePool(World instance);
+
+    /**
+     * Retrieves all template pools.
+     *
+     * @return an unmodifiable snapshot of all pools
+     */
+    Set<TemplatePool> getPools();
+
+    /**
+     * Creates a pool for the given template, or resizes the existing one.
+     * <p>
+     * The pool definition is persisted and instances are prepared in the background.
+     *
+     * @param template the key of the template world
+     * @param size     the number of instances to keep ready
+     * @param preload  whether ready instances are kept loaded
+     * @return the pool of the template
+     */
+    TemplatePool createPool(Key template, int size, boolean preload);
+
+    /**
+     * Removes the pool of the given template and disposes all of its ready instances.
+     * <p>
+     * Instances that are still leased stay loaded until they are released.
+     *
+     * @param template the key of the template world
+     * @return true if a pool was removed
+     */
+    boolean removePool(Key template);
+}
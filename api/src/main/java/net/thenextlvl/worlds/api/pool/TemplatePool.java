@@ -0,0 +1,68 @@
+package net.thenextlvl.worlds.api.pool;
+
+import net.kyori.adventure.key.Key;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@NullMarked
+public interface TemplatePool {
+    /**
+     * Retrieves the key of the world this pool clones its instances from.
+     *
+     * @return the template key
+     */
+    Key template();
+
+    /**
+     * Retrieves the number of instances the pool keeps ready at all times.
+     *
+     * @return the target pool size
+     */
+    int size();
+
+    /**
+     * Checks whether ready instances are kept loaded as worlds,
+     * or only as cloned level directories that are loaded when leased.
+     *
+     * @return true if instances are pre-loaded
+     */
+    boolean preload();
+
+    /**
+     * Retrieves the number of instances that can currently be leased without waiting.
+     *
+     * @return the number of ready instances
+     */
+    int available();
+
+    /**
+     * Retrieves the keys of all instances that are currently leased.
+     *
+     * @return an unmodifiable snapshot of the leased instance keys
+     */
+    Set<Key> getLeasedInstances();
+
+    /**
+     * Leases an instance of the template.
+     * <p>
+     * If an instance is ready the future completes immediately,
+     * otherwise it completes on the main thread as soon as the next instance has been prepared.
+     * Leased instances are replenished in the background.
+     *
+     * @return a future completing with the leased world
+     */
+    CompletableFuture<World> lease();
+
+    /**
+     * Returns a leased instance to the pool.
+     * <p>
+     * The world is unloaded immediately and its directory is deleted in the background.
+     *
+     * @param instance the leased world
+     * @return true if the world was a leased instance of this pool
+     */
+    boolean release(World instance);
+}
@@ -0,0 +1,77 @@
+package net.thenextlvl.worlds.api.pregeneration;
+
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.concurrent.CompletableFuture;
+
+@NullMarked
+public interface Pregeneration {
+    /**
+     * Retrieves the key of the world that is pre-generated.
+     *
+     * @return the world key
+     */
+    Key world();
+
+    /**
+     * Retrieves the x coordinate of the chunk the spiral starts at.
+     *
+     * @return the center chunk x coordinate
+     */
+    int centerX();
+
+    /**
+     * Retrieves the z coordinate of the chunk the spiral starts at.
+     *
+     * @return the center chunk z coordinate
+     */
+    int centerZ();
+
+    /**
+     * Retrieves the radius of the square that is pre-generated, measured in chunks.
+     *
+     * @return the chunk radius
+     */
+    int radius();
+
+    /**
+     * Retrieves the number of chunks inside the square.
+     *
+     * @return the total number of chunks
+     */
+    long totalChunks();
+
+    /**
+     * Retrieves the number of chunks that were already generated or loaded,
+     * including those processed before a restart.
+     *
+     * @return the number of completed chunks
+     */
+    long completedChunks();
+
+    /**
+     * Retrieves the recent throughput of this pre-generation.
+     *
+     * @return the number of chunks completed per second
+     */
+    double chunksPerSecond();
+
+    /**
+     * Retrieves the number of chunk requests that are allowed to be in flight at once.
+     * <p>
+     * The concurrency grows while the server keeps up with its tick rate
+     * and shrinks as soon as the tick duration exceeds the configured target.
+     *
+     * @return the current concurrency
+     */
+    int concurrency();
+
+    /**
+     * Retrieves a future completing once every chunk was processed,
+     * or exceptionally if the pre-generation was cancelled.
+     *
+     * @return the completion future
+     */
+    CompletableFuture<Void> completion();
+}
@@ -0,0 +1,46 @@
+package net.thenextlvl.worlds.api.pregeneration;
+
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Optional;
+import java.util.Set;
+
+@NullMarked
+public interface PregenerationController {
+    /**
+     * Starts pre-generating the chunks within the given radius around the spawn of the world.
+     * <p>
+     * Chunks are requested asynchronously in a spiral starting at the spawn chunk.
+     * The progress is persisted, so the pre-generation resumes once the world is loaded again after a restart.
+     *
+     * @param world  the world to pre-generate
+     * @param radius the radius in blocks
+     * @return the started pre-generation
+     * @throws IllegalStateException if the world is already being pre-generated
+     */
+    Pregeneration start(World world, int radius) throws IllegalStateException;
+
+    /**
+     * Cancels the pre-generation of the given world and discards its progress.
+     *
+     * @param world the world
+     * @return true if a pre-generation was cancelled
+     */
+    boolean cancel(World world);
+
+    /**
+     * Retrieves the running pre-generation of the given world.
+     *
+     * @param world the world
+     * @return an optional containing the pre-generation, or empty if none is running
+     */
+    Optional<Pregeneration> getPregeneration(World world);
+
+    /**
+     * Retrieves all running pre-generations.
+     *
+     * @return an unmodifiable snapshot of all running pre-generations
+     */
+    Set<Pregeneration> getPregenerations();
+}
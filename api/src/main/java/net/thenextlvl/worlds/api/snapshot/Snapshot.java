@@ -0,0 +1,44 @@
+package net.thenextlvl.worlds.api.snapshot;
+
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Instant;
+
+@NullMarked
+public interface Snapshot {
+    /**
+     * Retrieves the identifier of this snapshot, unique per world.
+     *
+     * @return the snapshot id
+     */
+    String id();
+
+    /**
+     * Retrieves the key of the world this snapshot was taken of.
+     *
+     * @return the world key
+     */
+    Key world();
+
+    /**
+     * Retrieves the point in time this snapshot was taken at.
+     *
+     * @return the creation time
+     */
+    Instant created();
+
+    /**
+     * Retrieves the number of chunks contained in this snapshot.
+     *
+     * @return the chunk count
+     */
+    int chunks();
+
+    /**
+     * Retrieves the number of files besides region files contained in this snapshot.
+     *
+     * @return the file count
+     */
+    int files();
+}
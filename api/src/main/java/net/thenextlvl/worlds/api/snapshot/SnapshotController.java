@@ -0,0 +1,58 @@
+package net.thenextlvl.worlds.api.snapshot;
+
+import net.kyori.adventure.key.Key;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@NullMarked
+public interface SnapshotController {
+    /**
+     * Takes a snapshot of the given world.
+     * <p>
+     * The world is saved first, then every chunk whose region header entry changed since the previous snapshot
+     * is hashed and stored once in a content-addressed chunk store, shared between all snapshots and worlds.
+     * Unchanged chunks are referenced without being read.
+     * <p>
+     * This method has to be called on the main thread, the future completes on the main thread.
+     *
+     * @param world the world to snapshot
+     * @return a future completing with the new snapshot
+     */
+    CompletableFuture<Snapshot> snapshot(World world);
+
+    /**
+     * Restores a snapshot into the world with the given key, which may differ from the world the snapshot was taken of.
+     * <p>
+     * Region files are written directly from the stored chunks, in parallel per region, into a staging directory
+     * that replaces the level directory once complete. If the target world is loaded, it is unloaded without saving
+     * and its previous directory is moved into the trash. The restored level is then created and enabled.
+     * <p>
+     * This method has to be called on the main thread, the future completes on the main thread.
+     *
+     * @param snapshot the snapshot to restore
+     * @param target   the key of the world to restore into
+     * @return a future completing with the restored world
+     */
+    CompletableFuture<World> restore(Snapshot snapshot, Key target);
+
+    /**
+     * Retrieves all snapshots of the given world, oldest first.
+     *
+     * @param world the key of the world
+     * @return an unmodifiable list of snapshots
+     */
+    List<Snapshot> getSnapshots(Key world);
+
+    /**
+     * Retrieves the snapshot of the given world with the given id.
+     *
+     * @param world the key of the world
+     * @param id    the snapshot id
+     * @return an optional containing the snapshot, or empty if it does not exist
+     */
+    Optional<Snapshot> getSnapshot(Key world, String id);
+}
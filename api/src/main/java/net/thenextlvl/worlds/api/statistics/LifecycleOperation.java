@@ -0,0 +1,17 @@
+package net.thenextlvl.worlds.api.statistics;
+
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+public enum LifecycleOperation {
+    CLONE,
+    CREATE,
+    DELETE,
+    EXPORT,
+    IMPORT,
+    REGENERATE,
+    RESTORE,
+    SAVE_LEVEL_DATA,
+    SNAPSHOT,
+    UNLOAD
+}
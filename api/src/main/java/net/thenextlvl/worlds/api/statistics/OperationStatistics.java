@@ -0,0 +1,37 @@
+package net.thenextlvl.worlds.api.statistics;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+
+/**
+ * A summary of the recorded durations of a lifecycle operation.
+ * <p>
+ * The count, total and maximum cover every recorded operation,
+ * while the percentiles are calculated from the most recent samples.
+ *
+ * @param count the amount of recorded operations
+ * @param total the accumulated duration of all recorded operations
+ * @param p50   the median duration
+ * @param p95   the 95th percentile duration
+ * @param p99   the 99th percentile duration
+ * @param max   the longest recorded duration
+ */
+@NullMarked
+public record OperationStatistics(
+        long count,
+        Duration total,
+        Duration p50,
+        Duration p95,
+        Duration p99,
+        Duration max
+) {
+    /**
+     * Calculates the average duration of the recorded operations.
+     *
+     * @return the average duration, or zero if nothing was recorded
+     */
+    public Duration average() {
+        return count > 0 ? total.dividedBy(count) : Duration.ZERO;
+    }
+}
@@ -0,0 +1,20 @@
+package net.thenextlvl.worlds.api.statistics;
+
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@NullMarked
+public interface StatisticsController {
+    Map<LifecycleOperation, OperationStatistics> getStatistics(Key world);
+
+    Optional<OperationStatistics> getStatistics(Key world, LifecycleOperation operation);
+
+    Set<Key> getRecordedWorlds();
+
+    void record(Key world, LifecycleOperation operation, Duration duration);
+}
@@ -0,0 +1,68 @@
+package net.thenextlvl.worlds.api.usage;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+
+/**
+ * The disk space occupied by a level directory, broken down by its main folders.
+ * All sizes are in bytes.
+ */
+@NullMarked
+public interface DiskUsage {
+    /**
+     * Retrieves the level directory this usage was computed for.
+     *
+     * @return the level directory
+     */
+    File level();
+
+    /**
+     * Retrieves the size of the whole level directory.
+     *
+     * @return the total size
+     */
+    long total();
+
+    /**
+     * Retrieves the size of the {@code region} folder of the main dimension.
+     *
+     * @return the region size
+     */
+    long region();
+
+    /**
+     * Retrieves the size of the {@code entities} folder of the main dimension.
+     *
+     * @return the entities size
+     */
+    long entities();
+
+    /**
+     * Retrieves the size of the {@code poi} folder of the main dimension.
+     *
+     * @return the poi size
+     */
+    long poi();
+
+    /**
+     * Retrieves the size of the {@code data} folder.
+     *
+     * @return the data size
+     */
+    long data();
+
+    /**
+     * Retrieves the size of all additional dimensions, like {@code DIM-1} and {@code DIM1}.
+     *
+     * @return the dimensions size
+     */
+    long dimensions();
+
+    /**
+     * Retrieves the size of everything else, like the level data and player data.
+     *
+     * @return the size of all other files
+     */
+    long other();
+}
@@ -0,0 +1,40 @@
+package net.thenextlvl.worlds.api.usage;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Computes the disk usage of levels in the background.
+ * <p>
+ * Results are cached and only computed anew once the level data,
+ * or the contents of one of the folders of the level changed.
+ */
+@NullMarked
+public interface DiskUsageController {
+    /**
+     * Retrieves the disk usage of the given level directory, loaded or not.
+     *
+     * @param level the level directory
+     * @return a future completing with the disk usage
+     */
+    CompletableFuture<DiskUsage> getUsage(File level);
+
+    /**
+     * Retrieves the last computed disk usage of the given level directory, which might be outdated.
+     *
+     * @param level the level directory
+     * @return an optional containing the cached disk usage
+     */
+    Optional<DiskUsage> getCachedUsage(File level);
+
+    /**
+     * Retrieves the disk usage of all levels in the world container, largest first.
+     *
+     * @return a future completing with the disk usage of all levels
+     */
+    CompletableFuture<List<DiskUsage>> getUsages();
+}
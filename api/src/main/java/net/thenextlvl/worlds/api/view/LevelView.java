@@ -9,11 +9,26 @@ import org.bukkit.World;
 import org.jspecify.annotations.NullMarked;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 @NullMarked
 public interface LevelView {
+    /**
+     * Reads the level data of the given level, decoding only the compounds at the given dot separated paths.
+     * <p>
+     * The default implementation reads the whole level data, so the result may contain more than requested.
+     *
+     * @param level the level directory
+     * @param paths the paths of the compounds to decode, like {@code Data.WorldGenSettings}
+     * @return the root compound of the level data
+     * @throws IOException if the level data could not be read
+     */
+    default CompoundTag readLevelData(File level, String... paths) throws IOException {
+        return getLevelDataFile(level).getRoot();
+    }
+
     NBTFile<CompoundTag> getLevelDataFile(File level);
 
     Optional<LevelExtras> getExtras(CompoundTag data);
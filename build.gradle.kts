@@ -58,19 +58,27 @@ paper {
         register("worlds.commands.admin") {
             this.children = listOf(
                 "worlds.command.clone",
+                "worlds.command.compact",
                 "worlds.command.create",
                 "worlds.command.delete",
+                "worlds.command.export",
                 "worlds.command.import",
                 "worlds.command.info",
                 "worlds.command.link",
                 "worlds.command.list",
                 "worlds.command.load",
+                "worlds.command.loading",
+                "worlds.command.pool",
+                "worlds.command.pregenerate",
+                "worlds.command.prune",
                 "worlds.command.save",
                 "worlds.command.save-all",
                 "worlds.command.save-off",
                 "worlds.command.save-on",
                 "worlds.command.setspawn",
+                "worlds.command.snapshot",
                 "worlds.command.spawn",
+                "worlds.command.stats",
                 "worlds.command.teleport",
                 "worlds.command.unload",
             )
@@ -98,12 +106,18 @@ paper {
         register("worlds.command.clone") {
             this.children = listOf("worlds.command")
         }
+        register("worlds.command.compact") {
+            this.children = listOf("worlds.command")
+        }
         register("worlds.command.create") {
             this.children = listOf("worlds.command")
         }
         register("worlds.command.delete") {
             this.children = listOf("worlds.command")
         }
+        register("worlds.command.export") {
+            this.children = listOf("worlds.command")
+        }
         register("worlds.command.import") {
             this.children = listOf("worlds.command")
         }
@@ -116,6 +130,18 @@ paper {
         register("worlds.command.load") {
             this.children = listOf("worlds.command")
         }
+        register("worlds.command.loading") {
+            this.children = listOf("worlds.command")
+        }
+        register("worlds.command.pool") {
+            this.children = listOf("worlds.command")
+        }
+        register("worlds.command.pregenerate") {
+            this.children = listOf("worlds.command")
+        }
+        register("worlds.command.prune") {
+            this.children = listOf("worlds.command")
+        }
         register("worlds.command.save") {
             this.children = listOf("worlds.command")
         }
@@ -131,9 +157,15 @@ paper {
         register("worlds.command.setspawn") {
             this.children = listOf("worlds.command")
         }
+        register("worlds.command.snapshot") {
+            this.children = listOf("worlds.command")
+        }
         register("worlds.command.spawn") {
             this.children = listOf("worlds.command")
         }
+        register("worlds.command.stats") {
+            this.children = listOf("worlds.command")
+        }
         register("worlds.command.teleport") {
             this.children = listOf("worlds.command")
         }
@@ -5,41 +5,78 @@ import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.thenextlvl.worlds.api.WorldsProvider;
-import net.thenextlvl.worlds.api.link.LinkController;
 import net.thenextlvl.worlds.api.model.Generator;
 import net.thenextlvl.worlds.api.model.LevelBuilder;
 import net.thenextlvl.worlds.api.preset.Presets;
 import net.thenextlvl.worlds.api.view.GeneratorView;
 import net.thenextlvl.worlds.api.view.LevelView;
 import net.thenextlvl.worlds.command.WorldCommand;
+import net.thenextlvl.worlds.controller.IdleUnloadController;
+import net.thenextlvl.worlds.controller.WorldDiskUsageController;
 import net.thenextlvl.worlds.controller.WorldLinkController;
+import net.thenextlvl.worlds.controller.WorldLoadController;
+import net.thenextlvl.worlds.controller.WorldPoolController;
+import net.thenextlvl.worlds.controller.WorldPregenerationController;
+import net.thenextlvl.worlds.controller.WorldSnapshotController;
+import net.thenextlvl.worlds.controller.WorldStatisticsController;
+import net.thenextlvl.worlds.io.TrashBin;
+import net.thenextlvl.worlds.job.JobJournal;
 import net.thenextlvl.worlds.listener.PortalListener;
 import net.thenextlvl.worlds.listener.ServerListener;
+import net.thenextlvl.worlds.model.LevelIndex;
 import net.thenextlvl.worlds.model.PaperLevelBuilder;
+import net.thenextlvl.worlds.model.PluginSettings;
+import net.thenextlvl.worlds.model.SaveFreeze;
 import net.thenextlvl.worlds.version.PluginVersionChecker;
 import net.thenextlvl.worlds.view.PaperLevelView;
 import net.thenextlvl.worlds.view.PluginGeneratorView;
 import org.bstats.bukkit.Metrics;
+import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerTeleportEvent.TeleportCause;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jspecify.annotations.NullMarked;
 
 import java.io.File;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.bukkit.persistence.PersistentDataType.BOOLEAN;
+import static org.bukkit.persistence.PersistentDataType.INTEGER;
 import static org.bukkit.persistence.PersistentDataType.STRING;
 
 @NullMarked
 public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
+    private static final boolean FOLIA = hasClass("io.papermc.paper.threadedregions.RegionizedServer");
+
     private final GeneratorView generatorView = new PluginGeneratorView();
     private final LevelView levelView = new PaperLevelView(this);
+    private final LevelIndex levelIndex = new LevelIndex(this);
+    private final PluginSettings settings = new PluginSettings(this);
+    private final SaveFreeze saveFreeze = new SaveFreeze(this);
+    private final TrashBin trashBin = new TrashBin(this);
+    private final JobJournal jobJournal = new JobJournal(this);
+
+    private final WorldDiskUsageController diskUsageController = new WorldDiskUsageController(this);
+    private final WorldLinkController linkController = new WorldLinkController(this);
+    private final WorldLoadController loadController = new WorldLoadController(this);
+    private final WorldPoolController poolController = new WorldPoolController(this);
+    private final WorldPregenerationController pregenerationController = new WorldPregenerationController(this);
+    private final WorldSnapshotController snapshotController = new WorldSnapshotController(this);
+    private final IdleUnloadController idleUnloadController = new IdleUnloadController(this);
+    private final WorldStatisticsController statisticsController = new WorldStatisticsController();
 
-    private final LinkController linkController = new WorldLinkController(this);
+    private final ExecutorService ioExecutor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            Thread.ofPlatform().name("Worlds IO #", 0).daemon().factory());
 
+    private final File archivesFolder = new File(getDataFolder(), "archives");
     private final File presetsFolder = new File(getDataFolder(), "presets");
     private final File translations = new File(getDataFolder(), "translations");
 
@@ -59,6 +96,9 @@ public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
     public void onLoad() {
         if (!presetsFolder.isDirectory()) saveDefaultPresets();
         versionChecker.checkVersion();
+        settings.load();
+        jobJournal.run();
+        poolController.load();
         registerServices();
     }
 
@@ -66,12 +106,53 @@ public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
     public void onEnable() {
         registerListeners();
         registerCommands();
+        idleUnloadController.start();
+        trashBin.start();
+        pregenerationController.start();
     }
 
     @Override
     public void onDisable() {
         metrics.shutdown();
+        idleUnloadController.stop();
+        trashBin.stop();
+        pregenerationController.stop();
         unloadWorlds();
+        levelIndex.save();
+        poolController.save();
+        ioExecutor.shutdown();
+    }
+
+    public boolean isFolia() {
+        return FOLIA;
+    }
+
+    /**
+     * Teleports the entity right away, except on Folia where it is teleported from its own scheduler.
+     */
+    public CompletableFuture<Boolean> teleport(Entity entity, Location location, TeleportCause cause) {
+        if (FOLIA) return teleportAsync(entity, location, cause);
+        return CompletableFuture.completedFuture(entity.teleport(location, cause));
+    }
+
+    /**
+     * Teleports the entity asynchronously from its own scheduler, which is safe to call from any thread.
+     *
+     * @return a future completing with whether the entity was teleported
+     */
+    public CompletableFuture<Boolean> teleportAsync(Entity entity, Location location, TeleportCause cause) {
+        var future = new CompletableFuture<Boolean>();
+        var task = entity.getScheduler().run(this, ignored -> entity.teleportAsync(location, cause)
+                .whenComplete((success, throwable) -> {
+                    if (throwable != null) future.completeExceptionally(throwable);
+                    else future.complete(success);
+                }), () -> future.complete(false));
+        if (task == null) future.complete(false);
+        return future;
+    }
+
+    public File archivesFolder() {
+        return archivesFolder;
     }
 
     public File presetsFolder() {
@@ -82,6 +163,39 @@ public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
         return bundle;
     }
 
+    public ExecutorService ioExecutor() {
+        return ioExecutor;
+    }
+
+    public IdleUnloadController idleUnloadController() {
+        return idleUnloadController;
+    }
+
+    public JobJournal jobJournal() {
+        return jobJournal;
+    }
+
+    public LevelIndex levelIndex() {
+        return levelIndex;
+    }
+
+    public PluginSettings settings() {
+        return settings;
+    }
+
+    public SaveFreeze saveFreeze() {
+        return saveFreeze;
+    }
+
+    public TrashBin trashBin() {
+        return trashBin;
+    }
+
+    @Override
+    public WorldDiskUsageController diskUsageController() {
+        return diskUsageController;
+    }
+
     @Override
     public GeneratorView generatorView() {
         return generatorView;
@@ -98,11 +212,37 @@ public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
     }
 
     @Override
-    public LinkController linkController() {
+    public WorldLinkController linkController() {
         return linkController;
     }
 
+    @Override
+    public WorldLoadController loadController() {
+        return loadController;
+    }
+
+    @Override
+    public WorldPoolController poolController() {
+        return poolController;
+    }
+
+    @Override
+    public WorldPregenerationController pregenerationController() {
+        return pregenerationController;
+    }
+
+    @Override
+    public WorldSnapshotController snapshotController() {
+        return snapshotController;
+    }
+
+    @Override
+    public WorldStatisticsController statisticsController() {
+        return statisticsController;
+    }
+
     private void unloadWorlds() {
+        if (FOLIA) return;
         getServer().getWorlds().stream().filter(world -> !world.isAutoSave()).forEach(world -> {
             world.getPlayers().forEach(player -> player.kick(getServer().shutdownMessage()));
             getServer().unloadWorld(world, false);
@@ -121,17 +261,44 @@ public class WorldsPlugin extends JavaPlugin implements WorldsProvider {
         world.getPersistentDataContainer().set(enabledKey, BOOLEAN, enabled);
     }
 
+    public void persistLazy(World world, boolean lazy) {
+        var lazyKey = new NamespacedKey("worlds", "lazy");
+        world.getPersistentDataContainer().set(lazyKey, BOOLEAN, lazy);
+    }
+
+    public void persistIdleTimeout(World world, int seconds) {
+        var container = world.getPersistentDataContainer();
+        if (seconds > 0) container.set(IdleUnloadController.IDLE_TIMEOUT, INTEGER, seconds);
+        else container.remove(IdleUnloadController.IDLE_TIMEOUT);
+    }
+
+    public void persistPriority(World world, int priority, int deferTicks) {
+        var container = world.getPersistentDataContainer();
+        container.set(new NamespacedKey("worlds", "priority"), INTEGER, priority);
+        container.set(new NamespacedKey("worlds", "defer"), INTEGER, deferTicks);
+    }
+
     public void persistGenerator(World world, Generator generator) {
         var generatorKey = new NamespacedKey("worlds", "generator");
         world.getPersistentDataContainer().set(generatorKey, STRING, generator.serialize());
     }
 
+    private static boolean hasClass(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     private void registerServices() {
         getServer().getServicesManager().register(WorldsProvider.class, this, this, ServicePriority.Highest);
     }
 
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new PortalListener(this), this);
+        getServer().getPluginManager().registerEvents(saveFreeze, this);
         getServer().getPluginManager().registerEvents(new ServerListener(this), this);
     }
 
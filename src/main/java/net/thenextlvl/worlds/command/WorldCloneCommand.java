@@ -1,25 +1,39 @@
 package net.thenextlvl.worlds.command;
 
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import io.papermc.paper.command.brigadier.argument.resolvers.BlockPositionResolver;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.io.FileCopier;
+import net.thenextlvl.worlds.io.FileDeleter;
+import net.thenextlvl.worlds.region.RegionBounds;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 
 import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND;
 
@@ -37,71 +51,146 @@ class WorldCloneCommand {
                 .then(Commands.argument("world", ArgumentTypes.world())
                         .suggests(new WorldSuggestionProvider<>(plugin))
                         .then(Commands.argument("key", ArgumentTypes.namespacedKey())
+                                .then(Commands.literal("box")
+                                        .then(Commands.argument("from", ArgumentTypes.blockPosition())
+                                                .then(Commands.argument("to", ArgumentTypes.blockPosition())
+                                                        .executes(this::cloneBox))))
+                                .then(Commands.literal("instant")
+                                        .executes(context -> clone(context, FileCopier.Mode.INSTANT)))
+                                .then(Commands.literal("radius")
+                                        .then(Commands.argument("radius", IntegerArgumentType.integer(0, 30_000_000))
+                                                .executes(this::cloneRadius)))
                                 .then(Commands.literal("template")
-                                        .executes(context -> clone(context, false)))
-                                .executes(context -> clone(context, true))));
+                                        .executes(context -> clone(context, null)))
+                                .executes(context -> clone(context, FileCopier.Mode.COPY))));
     }
 
-    private int clone(CommandContext<CommandSourceStack> context, boolean full) {
+    private int cloneBox(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        var from = context.getArgument("from", BlockPositionResolver.class).resolve(context.getSource());
+        var to = context.getArgument("to", BlockPositionResolver.class).resolve(context.getSource());
+        var bounds = RegionBounds.of(from.blockX(), from.blockZ(), to.blockX(), to.blockZ());
+        return clone(context, FileCopier.Mode.COPY, bounds);
+    }
+
+    private int cloneRadius(CommandContext<CommandSourceStack> context) {
+        var spawn = context.getArgument("world", World.class).getSpawnLocation();
+        var radius = context.getArgument("radius", int.class);
+        var bounds = RegionBounds.around(spawn.getBlockX(), spawn.getBlockZ(), radius);
+        return clone(context, FileCopier.Mode.COPY, bounds);
+    }
+
+    private int clone(CommandContext<CommandSourceStack> context, FileCopier.@Nullable Mode mode) {
+        return clone(context, mode, FileCopier::isLevelFile);
+    }
+
+    private int clone(CommandContext<CommandSourceStack> context, FileCopier.@Nullable Mode mode,
+                      Predicate<Path> filter) {
         var world = context.getArgument("world", World.class);
         var key = context.getArgument("key", NamespacedKey.class);
-        var clone = clone(world, key, full);
+        var sender = context.getSource().getSender();
+        var placeholder = Placeholder.parsed("world", world.getName());
 
-        if (clone != null) plugin.persistWorld(clone, true);
+        if (!canClone(key)) {
+            plugin.bundle().sendMessage(sender, "world.clone.failed", placeholder);
+            return 0;
+        }
 
-        var placeholder = Placeholder.parsed("world", world.getName());
-        var message = clone != null ? "world.clone.success" : "world.clone.failed";
+        if (mode == null) {
+            var clone = plugin.statisticsController().time(world.key(), LifecycleOperation.CLONE, () ->
+                    new WorldCreator(key.getKey(), key).copy(world).createWorld());
+            complete(sender, clone, placeholder);
+            return clone != null ? Command.SINGLE_SUCCESS : 0;
+        }
 
-        if (clone != null && context.getSource().getSender() instanceof Player player)
-            player.teleportAsync(clone.getSpawnLocation(), COMMAND);
+        var destination = new File(plugin.getServer().getWorldContainer(), key.getKey());
+        if (!reserve(destination.toPath())) {
+            plugin.bundle().sendMessage(sender, "world.clone.failed", placeholder);
+            return 0;
+        }
 
-        plugin.bundle().sendMessage(context.getSource().getSender(), message, placeholder);
-        return clone != null ? Command.SINGLE_SUCCESS : 0;
+        var started = System.nanoTime();
+        plugin.bundle().sendMessage(sender, "world.clone.started", placeholder);
+        copy(sender, world, destination, mode, filter).thenRun(() -> {
+            var clone = new WorldCreator(key.getKey(), key).copy(world).createWorld();
+            plugin.statisticsController().record(world.key(), LifecycleOperation.CLONE,
+                    Duration.ofNanos(System.nanoTime() - started));
+            complete(sender, clone, placeholder);
+        }).exceptionally(throwable -> {
+            plugin.getComponentLogger().error("Failed to clone world {}", world.getName(), throwable);
+            plugin.bundle().sendMessage(sender, "world.clone.failed", placeholder);
+            return null;
+        });
+        return Command.SINGLE_SUCCESS;
     }
 
-    private @Nullable World clone(World world, NamespacedKey key, boolean full) {
-        if (plugin.getServer().getWorld(key) != null) return null;
-        if (plugin.getServer().getWorld(key.getKey()) != null) return null;
-        if (new File(plugin.getServer().getWorldContainer(), key.getKey()).isDirectory()) return null;
-        if (full) copy(world, new File(plugin.getServer().getWorldContainer(), key.getKey()));
-        return new WorldCreator(key.getKey(), key).copy(world).createWorld();
+    private void complete(CommandSender sender, @Nullable World clone, TagResolver placeholder) {
+        if (clone != null) plugin.persistWorld(clone, true);
+
+        var message = clone != null ? "world.clone.success" : "world.clone.failed";
+
+        if (clone != null && sender instanceof Player player)
+            plugin.teleportAsync(player, clone.getSpawnLocation(), COMMAND);
+
+        plugin.bundle().sendMessage(sender, message, placeholder);
     }
 
-    private void copy(World world, File destination) {
-        var files = world.getWorldFolder().listFiles(this::shouldCopy);
-        if (files == null) return;
-        for (File file : files) copy(file, new File(destination, file.getName()));
+    private boolean canClone(NamespacedKey key) {
+        if (plugin.getServer().getWorld(key) != null) return false;
+        if (plugin.getServer().getWorld(key.getKey()) != null) return false;
+        return !new File(plugin.getServer().getWorldContainer(), key.getKey()).isDirectory();
     }
 
-    private boolean shouldCopy(File file, String name) {
-        if (name.equals("advancements") && file.isDirectory()) return false;
-        if (name.equals("datapacks") && file.isDirectory()) return false;
-        if (name.equals("playerdata") && file.isDirectory()) return false;
-        if (name.equals("session.lock")) return false;
-        if (name.equals("stats") && file.isDirectory()) return false;
-        return !name.equals("uid.dat");
+    /**
+     * Claims the destination by creating it, so concurrent clones to the same key can't share a directory.
+     * Only a directory claimed this way is deleted if the copy fails.
+     */
+    private boolean reserve(Path destination) {
+        try {
+            Files.createDirectory(destination);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            plugin.getComponentLogger().error("Failed to create clone directory {}", destination, e);
+            return false;
+        }
     }
 
-    private void copy(File source, File destination) {
-        if (source.isDirectory()) copyDirectory(source, destination);
-        else copyFile(source, destination);
+    private CompletableFuture<@Nullable Void> copy(CommandSender sender, World world, File destination,
+                                                  FileCopier.Mode mode, Predicate<Path> filter) {
+        plugin.saveFreeze().freeze(world);
+
+        var source = world.getWorldFolder().toPath();
+        var job = new FileCopier(plugin.ioExecutor()).copy(source, destination.toPath(), filter, mode);
+
+        var progress = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
+            if (job.future().isDone() || job.totalBytes() < 0) return;
+            var percent = job.totalBytes() > 0 ? job.copiedBytes() * 100 / job.totalBytes() : 100;
+            plugin.bundle().sendMessage(sender, "world.clone.progress",
+                    Placeholder.parsed("world", world.getName()),
+                    Placeholder.parsed("percent", String.valueOf(percent)),
+                    Placeholder.parsed("files", String.valueOf(job.copiedFiles())),
+                    Placeholder.parsed("total", String.valueOf(job.totalFiles())));
+        }, 40, 40);
+
+        return job.future().handleAsync((bytes, throwable) -> {
+            progress.cancel();
+            plugin.saveFreeze().thaw(world);
+            if (throwable == null) return null;
+            plugin.ioExecutor().execute(() -> delete(destination.toPath()));
+            throw throwable instanceof CompletionException e ? e : new CompletionException(throwable);
+        }, this::execute);
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    private void copyDirectory(File source, File destination) {
-        if (!destination.exists()) destination.mkdirs();
-        var list = source.listFiles();
-        if (list == null) return;
-        for (var file : list) copy(file, new File(destination, file.getName()));
+    private void execute(Runnable task) {
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, task);
     }
 
-    private void copyFile(File source, File destination) {
-        try (var in = new FileInputStream(source);
-             var out = new FileOutputStream(destination)) {
-            int length;
-            var buf = new byte[1024];
-            while ((length = in.read(buf)) > 0) out.write(buf, 0, length);
-        } catch (IOException ignored) {
+    private void delete(Path path) {
+        try {
+            FileDeleter.delete(path);
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to clean up incomplete clone {}", path, e);
         }
     }
 }
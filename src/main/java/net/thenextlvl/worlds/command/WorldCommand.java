@@ -1,5 +1,10 @@
 package net.thenextlvl.worlds.command;
 
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.CommandNode;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import net.thenextlvl.worlds.WorldsPlugin;
@@ -16,25 +21,66 @@ public class WorldCommand {
     public void register() {
         var command = Commands.literal("world")
                 .requires(source -> source.getSender().hasPermission("worlds.command"))
-                .then(new WorldCloneCommand(plugin).create())
-                .then(new WorldCreateCommand(plugin).create())
-                .then(new WorldDeleteCommand(plugin).create())
-                .then(new WorldImportCommand(plugin).create())
+                .then(global(new WorldCloneCommand(plugin).create()))
+                .then(global(new WorldCompactCommand(plugin).create()))
+                .then(global(new WorldCreateCommand(plugin).create()))
+                .then(global(new WorldDeleteCommand(plugin).create()))
+                .then(new WorldExportCommand(plugin).create())
+                .then(global(new WorldImportCommand(plugin).create()))
                 .then(new WorldInfoCommand(plugin).create())
-                .then(new WorldLinkCommand(plugin).create())
+                .then(global(new WorldLinkCommand(plugin).create()))
                 .then(new WorldListCommand(plugin).create())
-                .then(new WorldLoadCommand(plugin).create())
-                .then(new WorldRegenerateCommand(plugin).create())
+                .then(global(new WorldLoadCommand(plugin).create()))
+                .then(new WorldLoadingCommand(plugin).create())
+                .then(global(new WorldPoolCommand(plugin).create()))
+                .then(new WorldPregenerateCommand(plugin).create())
+                .then(global(new WorldPruneCommand(plugin).create()))
+                .then(global(new WorldRegenerateCommand(plugin).create()))
                 .then(new WorldSaveAllCommand(plugin).create())
                 .then(new WorldSaveCommand(plugin).create())
                 .then(new WorldSaveOffCommand(plugin).create())
                 .then(new WorldSaveOnCommand(plugin).create())
                 .then(new WorldSetSpawnCommand(plugin).create())
+                .then(global(new WorldSnapshotCommand(plugin).create()))
                 .then(new WorldSpawnCommand(plugin).create())
+                .then(new WorldStatsCommand(plugin).create())
                 .then(new WorldTeleportCommand(plugin).create())
-                .then(new WorldUnloadCommand(plugin).create())
+                .then(global(new WorldUnloadCommand(plugin).create()))
                 .build();
         plugin.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS.newHandler(event ->
                 event.registrar().register(command)));
     }
+
+    /**
+     * Routes every command of the tree through the global region,
+     * since worlds can only be created, loaded and unloaded from there.
+     */
+    private ArgumentBuilder<CommandSourceStack, ?> global(ArgumentBuilder<CommandSourceStack, ?> builder) {
+        return global(builder.build());
+    }
+
+    private ArgumentBuilder<CommandSourceStack, ?> global(CommandNode<CommandSourceStack> node) {
+        var builder = node.createBuilder();
+        var command = node.getCommand();
+        if (command != null) builder.executes(global(command));
+        node.getChildren().forEach(child -> builder.then(global(child)));
+        return builder;
+    }
+
+    private Command<CommandSourceStack> global(Command<CommandSourceStack> command) {
+        return context -> {
+            if (plugin.getServer().isGlobalTickThread()) return command.run(context);
+            plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+                try {
+                    command.run(context);
+                } catch (CommandSyntaxException e) {
+                    context.getSource().getSender().sendPlainMessage(e.getMessage());
+                } catch (RuntimeException e) {
+                    plugin.getComponentLogger().error("Failed to run /{}", context.getInput(), e);
+                    plugin.bundle().sendMessage(context.getSource().getSender(), "command.failed");
+                }
+            });
+            return Command.SINGLE_SUCCESS;
+        };
+    }
 }
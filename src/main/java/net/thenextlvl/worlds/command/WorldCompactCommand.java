@@ -0,0 +1,73 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.LevelSuggestionProvider;
+import net.thenextlvl.worlds.io.LevelPaths;
+import net.thenextlvl.worlds.region.RegionCompactor;
+import org.jspecify.annotations.NullMarked;
+
+import java.nio.file.Path;
+
+@NullMarked
+class WorldCompactCommand {
+    private final WorldsPlugin plugin;
+
+    WorldCompactCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("compact")
+                .requires(source -> source.getSender().hasPermission("worlds.command.compact"))
+                .then(Commands.argument("world", StringArgumentType.string())
+                        .suggests(new LevelSuggestionProvider<>(plugin))
+                        .executes(this::compact));
+    }
+
+    private int compact(CommandContext<CommandSourceStack> context) {
+        var name = context.getArgument("world", String.class);
+        var sender = context.getSource().getSender();
+        var level = LevelPaths.resolve(plugin.getServer().getWorldContainer().toPath(), name)
+                .map(Path::toFile).orElse(null);
+
+        if (level == null || !plugin.levelView().isLevel(level)) {
+            plugin.bundle().sendMessage(sender, "world.compact.failed", Placeholder.parsed("world", name));
+            return 0;
+        }
+        if (!plugin.loadController().reserve(level)) {
+            plugin.bundle().sendMessage(sender, "world.compact.loaded", Placeholder.parsed("world", name));
+            return 0;
+        }
+        if (!plugin.levelView().canLoad(level) || plugin.loadController().isDormant(level)) {
+            plugin.loadController().release(level);
+            plugin.bundle().sendMessage(sender, "world.compact.loaded", Placeholder.parsed("world", name));
+            return 0;
+        }
+
+        var started = System.nanoTime();
+        plugin.bundle().sendMessage(sender, "world.compact.started", Placeholder.parsed("world", name));
+        new RegionCompactor(plugin.ioExecutor()).compact(level.toPath()).whenComplete((result, throwable) -> {
+            plugin.loadController().release(level);
+            if (throwable != null) {
+                plugin.getComponentLogger().error("Failed to compact {}", name, throwable);
+                plugin.bundle().sendMessage(sender, "world.compact.failed", Placeholder.parsed("world", name));
+                return;
+            }
+            plugin.getComponentLogger().info("Compacted {} of {} region files of {} in {}ms, reclaimed {} bytes",
+                    result.compacted(), result.files(), name, (System.nanoTime() - started) / 1_000_000,
+                    result.reclaimed());
+            plugin.bundle().sendMessage(sender, "world.compact.success",
+                    Placeholder.parsed("world", name),
+                    Placeholder.parsed("files", String.valueOf(result.compacted())),
+                    Placeholder.parsed("size", String.valueOf(result.reclaimed() / (1024 * 1024))));
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+}
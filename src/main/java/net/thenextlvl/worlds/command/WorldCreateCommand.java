@@ -121,7 +121,7 @@ class WorldCreateCommand {
                 Placeholder.parsed("world", world != null ? world.getName() : key.asString()));
 
         if (world != null && context.getSource().getSender() instanceof Entity entity)
-            entity.teleportAsync(world.getSpawnLocation(), COMMAND);
+            plugin.teleportAsync(entity, world.getSpawnLocation(), COMMAND);
 
         if (world != null) {
             plugin.persistWorld(world, true);
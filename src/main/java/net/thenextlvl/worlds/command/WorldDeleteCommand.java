@@ -8,14 +8,18 @@ import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import net.thenextlvl.worlds.command.argument.CommandFlagsArgument;
 import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.job.Job;
 import org.bukkit.World;
 import org.jspecify.annotations.NullMarked;
 
-import java.io.File;
+import java.io.IOException;
 import java.util.Set;
 
+import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND;
+
 @NullMarked
 class WorldDeleteCommand {
     private final WorldsPlugin plugin;
@@ -58,7 +62,8 @@ class WorldDeleteCommand {
         var dragonBattle = world.getEnderDragonBattle();
         if (dragonBattle != null) dragonBattle.getBossBar().removeAll();
 
-        return schedule ? scheduleDeletion(world) : deleteNow(world);
+        return schedule ? scheduleDeletion(world) : plugin.statisticsController()
+                .time(world.key(), LifecycleOperation.DELETE, () -> deleteNow(world));
     }
 
     private String deleteNow(World world) {
@@ -66,27 +71,22 @@ class WorldDeleteCommand {
             return "world.delete.disallowed";
 
         var fallback = plugin.getServer().getWorlds().getFirst().getSpawnLocation();
-        world.getPlayers().forEach(player -> player.teleport(fallback));
+        world.getPlayers().forEach(player -> plugin.teleport(player, fallback, COMMAND));
 
         if (!plugin.getServer().unloadWorld(world, false))
             return "world.unload.failed";
 
-        return delete(world.getWorldFolder()) ? "world.delete.success" : "world.delete.failed";
+        try {
+            plugin.trashBin().trash(world.getWorldFolder().toPath());
+            return "world.delete.success";
+        } catch (IOException e) {
+            plugin.getComponentLogger().error("Failed to delete world {}", world.getName(), e);
+            return "world.delete.failed";
+        }
     }
 
     private String scheduleDeletion(World world) {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            if (delete(world.getWorldFolder())) return;
-            plugin.getComponentLogger().error("Failed to delete world {}", world.getName());
-        }));
+        plugin.jobJournal().schedule(Job.Type.DELETE, world.getWorldFolder().toPath());
         return "world.delete.scheduled";
     }
-
-    private boolean delete(File file) {
-        if (file.isFile()) return file.delete();
-        var files = file.listFiles();
-        if (files == null) return false;
-        for (var file1 : files) delete(file1);
-        return file.delete();
-    }
 }
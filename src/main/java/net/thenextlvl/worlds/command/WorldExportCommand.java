@@ -0,0 +1,64 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
+import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.io.FileCopier;
+import net.thenextlvl.worlds.io.WorldArchive;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+
+@NullMarked
+class WorldExportCommand {
+    private final WorldsPlugin plugin;
+
+    WorldExportCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("export")
+                .requires(source -> source.getSender().hasPermission("worlds.command.export"))
+                .then(Commands.argument("world", ArgumentTypes.world())
+                        .suggests(new WorldSuggestionProvider<>(plugin))
+                        .executes(this::export));
+    }
+
+    private int export(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var sender = context.getSource().getSender();
+        var level = world.getWorldFolder().toPath();
+        var archive = plugin.archivesFolder().toPath().resolve(level.getFileName() + WorldArchive.EXTENSION);
+
+        plugin.saveFreeze().freeze(world);
+
+        var started = System.nanoTime();
+        plugin.bundle().sendMessage(sender, "world.export.started", Placeholder.parsed("world", world.getName()));
+        new WorldArchive(plugin.ioExecutor()).export(level, archive, FileCopier::isLevelFile)
+                .whenCompleteAsync((size, throwable) -> {
+                    plugin.saveFreeze().thaw(world);
+                    if (throwable != null) {
+                        plugin.getComponentLogger().error("Failed to export world {}", world.getName(), throwable);
+                        plugin.bundle().sendMessage(sender, "world.export.failed",
+                                Placeholder.parsed("world", world.getName()));
+                        return;
+                    }
+                    plugin.statisticsController().record(world.key(), LifecycleOperation.EXPORT,
+                            Duration.ofNanos(System.nanoTime() - started));
+                    plugin.bundle().sendMessage(sender, "world.export.success",
+                            Placeholder.parsed("world", world.getName()),
+                            Placeholder.parsed("archive", archive.getFileName().toString()),
+                            Placeholder.parsed("size", String.valueOf(size / (1024 * 1024))));
+                }, task -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, task));
+        return Command.SINGLE_SUCCESS;
+    }
+}
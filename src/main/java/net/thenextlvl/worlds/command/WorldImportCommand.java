@@ -11,17 +11,26 @@ import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
 import net.thenextlvl.worlds.api.model.Generator;
 import net.thenextlvl.worlds.api.model.Level;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import net.thenextlvl.worlds.command.argument.DimensionArgument;
 import net.thenextlvl.worlds.command.argument.GeneratorArgument;
 import net.thenextlvl.worlds.command.suggestion.LevelSuggestionProvider;
+import net.thenextlvl.worlds.io.FileDeleter;
+import net.thenextlvl.worlds.io.WorldArchive;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND;
 
@@ -37,7 +46,13 @@ class WorldImportCommand {
         return Commands.literal("import")
                 .requires(source -> source.getSender().hasPermission("worlds.command.import"))
                 .then(Commands.argument("world", StringArgumentType.string())
-                        .suggests(new LevelSuggestionProvider<>(plugin))
+                        .suggests((context, builder) -> {
+                            archives().filter(name -> name.contains(builder.getRemaining()))
+                                    .map(StringArgumentType::escapeIfRequired)
+                                    .forEach(builder::suggest);
+                            return new LevelSuggestionProvider<CommandSourceStack>(plugin)
+                                    .getSuggestions(context, builder);
+                        })
                         .then(Commands.argument("key", ArgumentTypes.namespacedKey())
                                 .then(Commands.argument("dimension", new DimensionArgument(plugin))
                                         .then(Commands.argument("generator", new GeneratorArgument(plugin))
@@ -62,6 +77,37 @@ class WorldImportCommand {
     private int execute(CommandContext<CommandSourceStack> context, @Nullable NamespacedKey key,
                         World.@Nullable Environment environment, @Nullable Generator generator) {
         var name = context.getArgument("world", String.class);
+        var sender = context.getSource().getSender();
+        var archive = archive(name);
+        if (archive == null) return execute(sender, name, key, environment, generator) != null ? Command.SINGLE_SUCCESS : 0;
+
+        var levelName = name.endsWith(WorldArchive.EXTENSION)
+                ? name.substring(0, name.length() - WorldArchive.EXTENSION.length()) : name;
+        var levelFolder = new File(plugin.getServer().getWorldContainer(), levelName).toPath();
+        if (Files.exists(levelFolder)) {
+            plugin.bundle().sendMessage(sender, "world.import.failed", Placeholder.parsed("world", levelName));
+            return 0;
+        }
+
+        var started = System.nanoTime();
+        plugin.bundle().sendMessage(sender, "world.import.extracting",
+                Placeholder.parsed("archive", archive.getFileName().toString()));
+        new WorldArchive(plugin.ioExecutor()).extract(archive, levelFolder).whenCompleteAsync((path, throwable) -> {
+            if (throwable == null) {
+                var world = execute(sender, levelName, key, environment, generator);
+                if (world != null) plugin.statisticsController().record(world.key(), LifecycleOperation.IMPORT,
+                        Duration.ofNanos(System.nanoTime() - started));
+                return;
+            }
+            plugin.getComponentLogger().error("Failed to extract archive {}", archive, throwable);
+            plugin.bundle().sendMessage(sender, "world.import.failed", Placeholder.parsed("world", levelName));
+            plugin.ioExecutor().execute(() -> delete(levelFolder));
+        }, task -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, task));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private @Nullable World execute(CommandSender sender, String name, @Nullable NamespacedKey key,
+                            World.@Nullable Environment environment, @Nullable Generator generator) {
         var levelFolder = new File(plugin.getServer().getWorldContainer(), name);
 
         var build = plugin.levelView().isLevel(levelFolder)
@@ -74,11 +120,11 @@ class WorldImportCommand {
                 .orElse(null);
 
         var message = world != null ? "world.import.success" : "world.import.failed";
-        plugin.bundle().sendMessage(context.getSource().getSender(), message,
+        plugin.bundle().sendMessage(sender, message,
                 Placeholder.parsed("world", world != null ? world.getName() : name));
 
-        if (world != null && context.getSource().getSender() instanceof Entity entity)
-            entity.teleportAsync(world.getSpawnLocation(), COMMAND);
+        if (world != null && sender instanceof Entity entity)
+            plugin.teleportAsync(entity, world.getSpawnLocation(), COMMAND);
 
         if (world != null) {
             plugin.persistWorld(world, true);
@@ -86,6 +132,26 @@ class WorldImportCommand {
             plugin.levelView().saveLevelData(world, true);
         }
 
-        return world != null ? Command.SINGLE_SUCCESS : 0;
+        return world;
+    }
+
+    private @Nullable Path archive(String name) {
+        if (new File(plugin.getServer().getWorldContainer(), name).isDirectory()) return null;
+        var archives = plugin.archivesFolder().toPath();
+        var archive = archives.resolve(name.endsWith(WorldArchive.EXTENSION) ? name : name + WorldArchive.EXTENSION);
+        return Files.isRegularFile(archive) ? archive : null;
+    }
+
+    private Stream<String> archives() {
+        var files = plugin.archivesFolder().listFiles((directory, name) -> name.endsWith(WorldArchive.EXTENSION));
+        return files != null ? Stream.of(files).map(File::getName) : Stream.empty();
+    }
+
+    private void delete(Path path) {
+        try {
+            FileDeleter.delete(path);
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to clean up incomplete import {}", path, e);
+        }
     }
 }
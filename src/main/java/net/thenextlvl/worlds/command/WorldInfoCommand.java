@@ -11,12 +11,14 @@ import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
 import net.thenextlvl.worlds.api.model.WorldPreset;
 import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.usage.PaperDiskUsage;
 import org.bukkit.World;
 import org.bukkit.WorldType;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.NullMarked;
 
+import java.io.IOException;
 import java.util.Optional;
 
 @NullMarked
@@ -46,7 +48,7 @@ class WorldInfoCommand {
 
     @SuppressWarnings("deprecation")
     private int list(CommandSender sender, World world) {
-        var root = plugin.levelView().getLevelDataFile(world.getWorldFolder()).getRoot();
+        var root = readLevelData(world);
         var data = root.<CompoundTag>optional("Data");
         var settings = data.flatMap(tag -> tag.<CompoundTag>optional("WorldGenSettings"));
         var dimensions = settings.flatMap(tag -> tag.<CompoundTag>optional("dimensions"));
@@ -73,6 +75,24 @@ class WorldInfoCommand {
                 "world.info.generator", Placeholder.parsed("generator", gen)));
         plugin.bundle().sendMessage(sender, "world.info.seed",
                 Placeholder.parsed("seed", String.valueOf(world.getSeed())));
+        plugin.diskUsageController().getUsage(world.getWorldFolder()).thenAccept(usage ->
+                plugin.bundle().sendMessage(sender, "world.info.disk",
+                        Placeholder.parsed("size", PaperDiskUsage.format(usage.total())),
+                        Placeholder.parsed("region", PaperDiskUsage.format(usage.region())),
+                        Placeholder.parsed("entities", PaperDiskUsage.format(usage.entities())),
+                        Placeholder.parsed("poi", PaperDiskUsage.format(usage.poi())),
+                        Placeholder.parsed("data", PaperDiskUsage.format(usage.data())),
+                        Placeholder.parsed("dimensions", PaperDiskUsage.format(usage.dimensions())),
+                        Placeholder.parsed("other", PaperDiskUsage.format(usage.other()))));
         return Command.SINGLE_SUCCESS;
     }
+
+    private CompoundTag readLevelData(World world) {
+        try {
+            return plugin.levelView().readLevelData(world.getWorldFolder(), "Data.WorldGenSettings");
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to read level data of {}", world.getName(), e);
+            return new CompoundTag();
+        }
+    }
 }
@@ -11,6 +11,8 @@ import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.usage.DiskUsage;
+import net.thenextlvl.worlds.usage.PaperDiskUsage;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
@@ -24,6 +26,7 @@ class WorldListCommand {
     ArgumentBuilder<CommandSourceStack, ?> create() {
         return Commands.literal("list")
                 .requires(source -> source.getSender().hasPermission("worlds.command.list"))
+                .then(Commands.literal("disk").executes(this::disk))
                 .executes(this::list);
     }
 
@@ -34,13 +37,41 @@ class WorldListCommand {
         var joined = Component.join(JoinConfiguration.commas(true), worlds.stream()
                 .map(world -> Component.text(world.getName())
                         .hoverEvent(HoverEvent.showText(plugin.bundle().component(sender,
-                                "world.list.hover", Placeholder.parsed("world", world.key().asString()))))
+                                "world.list.hover", Placeholder.parsed("world", world.key().asString()),
+                                Placeholder.parsed("size", plugin.diskUsageController()
+                                        .getCachedUsage(world.getWorldFolder())
+                                        .map(usage -> PaperDiskUsage.format(usage.total()))
+                                        .orElse("?")))))
                         .clickEvent(ClickEvent.runCommand("/world teleport " + world.key().asString())))
                 .toList());
         plugin.bundle().sendMessage(sender, "world.list",
                 Placeholder.parsed("amount", String.valueOf(worlds.size())),
                 Placeholder.component("worlds", joined));
 
+        worlds.forEach(world -> plugin.diskUsageController().getUsage(world.getWorldFolder()));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int disk(CommandContext<CommandSourceStack> context) {
+        var sender = context.getSource().getSender();
+        plugin.diskUsageController().getUsages().thenAccept(usages -> {
+            plugin.bundle().sendMessage(sender, "world.list.disk",
+                    Placeholder.parsed("amount", String.valueOf(usages.size())),
+                    Placeholder.parsed("size", PaperDiskUsage.format(usages.stream()
+                            .mapToLong(DiskUsage::total).sum())));
+            usages.forEach(usage -> plugin.bundle().sendMessage(sender, "world.list.disk.entry",
+                    Placeholder.parsed("world", usage.level().getName()),
+                    Placeholder.parsed("size", PaperDiskUsage.format(usage.total())),
+                    Placeholder.parsed("region", PaperDiskUsage.format(usage.region())),
+                    Placeholder.parsed("entities", PaperDiskUsage.format(usage.entities())),
+                    Placeholder.parsed("poi", PaperDiskUsage.format(usage.poi())),
+                    Placeholder.parsed("data", PaperDiskUsage.format(usage.data())),
+                    Placeholder.parsed("dimensions", PaperDiskUsage.format(usage.dimensions())),
+                    Placeholder.parsed("other", PaperDiskUsage.format(usage.other()))));
+        }).exceptionally(throwable -> {
+            plugin.getComponentLogger().error("Failed to compute the disk usage", throwable);
+            return null;
+        });
         return Command.SINGLE_SUCCESS;
     }
 }
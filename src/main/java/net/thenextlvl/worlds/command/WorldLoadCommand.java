@@ -46,7 +46,7 @@ class WorldLoadCommand {
                 Placeholder.parsed("world", world != null ? world.getName() : name));
 
         if (world != null && context.getSource().getSender() instanceof Entity entity)
-            entity.teleportAsync(world.getSpawnLocation(), COMMAND);
+            plugin.teleportAsync(entity, world.getSpawnLocation(), COMMAND);
 
         if (world != null) {
             plugin.persistStatus(world, true, true);
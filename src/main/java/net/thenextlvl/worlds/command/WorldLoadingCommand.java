@@ -0,0 +1,72 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+class WorldLoadingCommand {
+    private final WorldsPlugin plugin;
+
+    WorldLoadingCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("loading")
+                .requires(source -> source.getSender().hasPermission("worlds.command.loading"))
+                .then(Commands.argument("world", ArgumentTypes.world())
+                        .suggests(new WorldSuggestionProvider<>(plugin))
+                        .then(Commands.literal("eager").executes(context -> lazy(context, false)))
+                        .then(Commands.literal("idle-timeout")
+                                .then(Commands.argument("seconds", IntegerArgumentType.integer(0))
+                                        .executes(this::idleTimeout)))
+                        .then(Commands.literal("lazy").executes(context -> lazy(context, true)))
+                        .then(Commands.literal("priority")
+                                .then(Commands.argument("priority", IntegerArgumentType.integer())
+                                        .then(Commands.argument("defer", IntegerArgumentType.integer(0))
+                                                .executes(context -> priority(context,
+                                                        context.getArgument("defer", int.class))))
+                                        .executes(context -> priority(context, 0)))));
+    }
+
+    private int priority(CommandContext<CommandSourceStack> context, int defer) {
+        var world = context.getArgument("world", World.class);
+        var priority = context.getArgument("priority", int.class);
+        plugin.persistPriority(world, priority, defer);
+        plugin.bundle().sendMessage(context.getSource().getSender(), "world.loading.priority",
+                Placeholder.parsed("world", world.getName()),
+                Placeholder.parsed("priority", String.valueOf(priority)),
+                Placeholder.parsed("defer", String.valueOf(defer)));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int idleTimeout(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var seconds = context.getArgument("seconds", int.class);
+        plugin.persistIdleTimeout(world, seconds);
+        var message = seconds > 0 ? "world.loading.idle-timeout" : "world.loading.idle-timeout.disabled";
+        plugin.bundle().sendMessage(context.getSource().getSender(), message,
+                Placeholder.parsed("world", world.getName()),
+                Placeholder.parsed("seconds", String.valueOf(seconds)));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int lazy(CommandContext<CommandSourceStack> context, boolean lazy) {
+        var world = context.getArgument("world", World.class);
+        plugin.persistLazy(world, lazy);
+        var message = lazy ? "world.loading.lazy" : "world.loading.eager";
+        plugin.bundle().sendMessage(context.getSource().getSender(), message,
+                Placeholder.parsed("world", world.getName()));
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -0,0 +1,56 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+class WorldPoolCommand {
+    private final WorldsPlugin plugin;
+
+    WorldPoolCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("pool")
+                .requires(source -> source.getSender().hasPermission("worlds.command.pool"))
+                .then(Commands.argument("world", ArgumentTypes.world())
+                        .suggests(new WorldSuggestionProvider<>(plugin))
+                        .then(Commands.literal("remove").executes(this::remove))
+                        .then(Commands.argument("size", IntegerArgumentType.integer(1, 64))
+                                .then(Commands.argument("preload", BoolArgumentType.bool())
+                                        .executes(context -> create(context,
+                                                context.getArgument("preload", boolean.class))))
+                                .executes(context -> create(context, false))));
+    }
+
+    private int create(CommandContext<CommandSourceStack> context, boolean preload) {
+        var world = context.getArgument("world", World.class);
+        var size = context.getArgument("size", int.class);
+        plugin.poolController().createPool(world.key(), size, preload);
+        plugin.bundle().sendMessage(context.getSource().getSender(), "world.pool.created",
+                Placeholder.parsed("world", world.getName()),
+                Placeholder.parsed("size", String.valueOf(size)));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int remove(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var removed = plugin.poolController().removePool(world.key());
+        var message = removed ? "world.pool.removed" : "world.pool.unknown";
+        plugin.bundle().sendMessage(context.getSource().getSender(), message,
+                Placeholder.parsed("world", world.getName()));
+        return removed ? Command.SINGLE_SUCCESS : 0;
+    }
+}
@@ -0,0 +1,82 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Locale;
+
+@NullMarked
+class WorldPregenerateCommand {
+    private final WorldsPlugin plugin;
+
+    WorldPregenerateCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("pregenerate")
+                .requires(source -> source.getSender().hasPermission("worlds.command.pregenerate"))
+                .then(Commands.argument("world", ArgumentTypes.world())
+                        .suggests(new WorldSuggestionProvider<>(plugin))
+                        .then(Commands.literal("cancel").executes(this::cancel))
+                        .then(Commands.argument("radius", IntegerArgumentType.integer(16, 30_000_000))
+                                .executes(this::start))
+                        .executes(this::status));
+    }
+
+    private int start(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var radius = context.getArgument("radius", int.class);
+        var sender = context.getSource().getSender();
+        var placeholder = Placeholder.parsed("world", world.getName());
+        if (plugin.pregenerationController().getPregeneration(world).isPresent()) {
+            plugin.bundle().sendMessage(sender, "world.pregenerate.running", placeholder);
+            return 0;
+        }
+        var pregeneration = plugin.pregenerationController().start(world, radius);
+        plugin.bundle().sendMessage(sender, "world.pregenerate.started", placeholder,
+                Placeholder.parsed("chunks", String.valueOf(pregeneration.totalChunks())));
+        pregeneration.completion().whenComplete((ignored, throwable) -> {
+            if (throwable == null) plugin.bundle().sendMessage(sender, "world.pregenerate.finished", placeholder);
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int cancel(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var cancelled = plugin.pregenerationController().cancel(world);
+        var message = cancelled ? "world.pregenerate.cancelled" : "world.pregenerate.none";
+        plugin.bundle().sendMessage(context.getSource().getSender(), message,
+                Placeholder.parsed("world", world.getName()));
+        return cancelled ? Command.SINGLE_SUCCESS : 0;
+    }
+
+    private int status(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var sender = context.getSource().getSender();
+        var pregeneration = plugin.pregenerationController().getPregeneration(world).orElse(null);
+        if (pregeneration == null) {
+            plugin.bundle().sendMessage(sender, "world.pregenerate.none",
+                    Placeholder.parsed("world", world.getName()));
+            return 0;
+        }
+        var percent = pregeneration.completedChunks() * 100 / pregeneration.totalChunks();
+        plugin.bundle().sendMessage(sender, "world.pregenerate.status",
+                Placeholder.parsed("world", world.getName()),
+                Placeholder.parsed("completed", String.valueOf(pregeneration.completedChunks())),
+                Placeholder.parsed("total", String.valueOf(pregeneration.totalChunks())),
+                Placeholder.parsed("percent", String.valueOf(percent)),
+                Placeholder.parsed("rate", String.format(Locale.ROOT, "%.1f", pregeneration.chunksPerSecond())));
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -0,0 +1,104 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import core.nbt.tag.Tag;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.LevelSuggestionProvider;
+import net.thenextlvl.worlds.io.LevelPaths;
+import net.thenextlvl.worlds.nbt.FilteredNBTReader;
+import net.thenextlvl.worlds.region.ChunkPruner;
+import net.thenextlvl.worlds.region.RegionBounds;
+import net.thenextlvl.worlds.region.RegionReset;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+@NullMarked
+class WorldPruneCommand {
+    private final WorldsPlugin plugin;
+
+    WorldPruneCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("prune")
+                .requires(source -> source.getSender().hasPermission("worlds.command.prune"))
+                .then(Commands.argument("world", StringArgumentType.string())
+                        .suggests(new LevelSuggestionProvider<>(plugin))
+                        .then(Commands.argument("seconds", IntegerArgumentType.integer(1))
+                                .then(Commands.argument("radius", IntegerArgumentType.integer(0, 30_000_000))
+                                        .executes(context -> prune(context, context.getArgument("radius", int.class))))
+                                .executes(context -> prune(context, -1))));
+    }
+
+    private int prune(CommandContext<CommandSourceStack> context, int radius) {
+        var name = context.getArgument("world", String.class);
+        var seconds = context.getArgument("seconds", int.class);
+        var sender = context.getSource().getSender();
+        var level = LevelPaths.resolve(plugin.getServer().getWorldContainer().toPath(), name)
+                .map(Path::toFile).orElse(null);
+
+        if (level == null || !plugin.levelView().isLevel(level)) {
+            plugin.bundle().sendMessage(sender, "world.prune.failed", Placeholder.parsed("world", name));
+            return 0;
+        }
+        if (!plugin.loadController().reserve(level)) {
+            plugin.bundle().sendMessage(sender, "world.prune.loaded", Placeholder.parsed("world", name));
+            return 0;
+        }
+        if (!plugin.levelView().canLoad(level) || plugin.loadController().isDormant(level)) {
+            plugin.loadController().release(level);
+            plugin.bundle().sendMessage(sender, "world.prune.loaded", Placeholder.parsed("world", name));
+            return 0;
+        }
+
+        RegionReset.ChunkSelection protect;
+        try {
+            protect = radius >= 0 ? protectSpawn(level, radius) : (chunkX, chunkZ) -> false;
+        } catch (IOException e) {
+            plugin.loadController().release(level);
+            plugin.getComponentLogger().error("Failed to read the spawn of {}", name, e);
+            plugin.bundle().sendMessage(sender, "world.prune.failed", Placeholder.parsed("world", name));
+            return 0;
+        }
+
+        var started = System.nanoTime();
+        plugin.bundle().sendMessage(sender, "world.prune.started", Placeholder.parsed("world", name));
+        var pruner = new ChunkPruner(plugin.ioExecutor());
+        pruner.prune(level.toPath(), seconds * 20L, protect).whenComplete((result, throwable) -> {
+            plugin.loadController().release(level);
+            if (throwable != null) {
+                plugin.getComponentLogger().error("Failed to prune {}", name, throwable);
+                plugin.bundle().sendMessage(sender, "world.prune.failed", Placeholder.parsed("world", name));
+                return;
+            }
+            plugin.getComponentLogger().info("Pruned {} chunks of {} in {}ms, removed {} bytes",
+                    result.chunks(), name, (System.nanoTime() - started) / 1_000_000, result.bytes());
+            plugin.bundle().sendMessage(sender, "world.prune.success",
+                    Placeholder.parsed("world", name),
+                    Placeholder.parsed("chunks", String.valueOf(result.chunks())),
+                    Placeholder.parsed("size", String.valueOf(result.bytes() / (1024 * 1024))));
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private RegionReset.ChunkSelection protectSpawn(File level, int radius) throws IOException {
+        var data = new FilteredNBTReader("Data.SpawnX", "Data.SpawnZ")
+                .readCompressed(new File(level, "level.dat"))
+                .<Tag>optional("Data").map(Tag::getAsCompound)
+                .orElseThrow(() -> new IOException("Missing level data"));
+        var spawnX = data.<Tag>optional("SpawnX").map(Tag::getAsInt).orElse(0);
+        var spawnZ = data.<Tag>optional("SpawnZ").map(Tag::getAsInt).orElse(0);
+        return RegionBounds.around(spawnX, spawnZ, radius)::intersectsChunk;
+    }
+}
@@ -1,20 +1,29 @@
 package net.thenextlvl.worlds.command;
 
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import io.papermc.paper.command.brigadier.argument.resolvers.BlockPositionResolver;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import net.thenextlvl.worlds.command.argument.CommandFlagsArgument;
 import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.job.Job;
+import net.thenextlvl.worlds.region.RegionBounds;
+import net.thenextlvl.worlds.region.RegionReset;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Set;
 
 import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND;
@@ -32,6 +41,19 @@ class WorldRegenerateCommand {
                 .requires(source -> source.getSender().hasPermission("worlds.command.regenerate"))
                 .then(Commands.argument("world", ArgumentTypes.world())
                         .suggests(new WorldSuggestionProvider<>(plugin))
+                        .then(Commands.literal("box")
+                                .then(Commands.argument("from", ArgumentTypes.blockPosition())
+                                        .then(Commands.argument("to", ArgumentTypes.blockPosition())
+                                                .then(Commands.argument("flags", new CommandFlagsArgument(
+                                                        Set.of("--confirm")
+                                                )).executes(this::regenerateBox))
+                                                .executes(this::confirmationNeeded))))
+                        .then(Commands.literal("outside")
+                                .then(Commands.argument("radius", IntegerArgumentType.integer(0, 30_000_000))
+                                        .then(Commands.argument("flags", new CommandFlagsArgument(
+                                                Set.of("--confirm")
+                                        )).executes(this::regenerateOutside))
+                                        .executes(this::confirmationNeeded)))
                         .then(Commands.argument("flags", new CommandFlagsArgument(
                                 Set.of("--confirm", "--schedule")
                         )).executes(this::regenerate))
@@ -56,15 +78,45 @@ class WorldRegenerateCommand {
         return Command.SINGLE_SUCCESS;
     }
 
+    private int regenerateBox(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        var from = context.getArgument("from", BlockPositionResolver.class).resolve(context.getSource());
+        var to = context.getArgument("to", BlockPositionResolver.class).resolve(context.getSource());
+        var bounds = RegionBounds.of(from.blockX(), from.blockZ(), to.blockX(), to.blockZ());
+        return regenerate(context, bounds::intersectsChunk);
+    }
+
+    private int regenerateOutside(CommandContext<CommandSourceStack> context) {
+        var spawn = context.getArgument("world", World.class).getSpawnLocation();
+        var radius = context.getArgument("radius", int.class);
+        var bounds = RegionBounds.around(spawn.getBlockX(), spawn.getBlockZ(), radius);
+        return regenerate(context, (chunkX, chunkZ) -> !bounds.intersectsChunk(chunkX, chunkZ));
+    }
+
+    private int regenerate(CommandContext<CommandSourceStack> context, RegionReset.ChunkSelection selection) {
+        var flags = context.getArgument("flags", CommandFlagsArgument.Flags.class);
+        if (!flags.contains("--confirm")) return confirmationNeeded(context);
+        var world = context.getArgument("world", World.class);
+
+        var dragonBattle = world.getEnderDragonBattle();
+        if (dragonBattle != null) dragonBattle.getBossBar().removeAll();
+
+        var result = plugin.statisticsController().time(world.key(), LifecycleOperation.REGENERATE, () ->
+                regenerateNow(world, selection));
+        plugin.bundle().sendMessage(context.getSource().getSender(), result,
+                Placeholder.parsed("world", world.getName()));
+        return Command.SINGLE_SUCCESS;
+    }
+
     private String regenerate(World world, boolean schedule) {
 
         var dragonBattle = world.getEnderDragonBattle();
         if (dragonBattle != null) dragonBattle.getBossBar().removeAll();
 
-        return schedule ? scheduleRegeneration(world) : regenerateNow(world);
+        return schedule ? scheduleRegeneration(world) : plugin.statisticsController()
+                .time(world.key(), LifecycleOperation.REGENERATE, () -> regenerateNow(world, null));
     }
 
-    private String regenerateNow(World world) {
+    private String regenerateNow(World world, RegionReset.@Nullable ChunkSelection selection) {
         if (world.getKey().toString().equals("minecraft:overworld"))
             return "world.regenerate.disallowed";
 
@@ -72,48 +124,44 @@ class WorldRegenerateCommand {
         var players = world.getPlayers();
 
         var fallback = plugin.getServer().getWorlds().getFirst().getSpawnLocation();
-        players.forEach(player -> player.teleport(fallback, COMMAND));
+        players.forEach(player -> plugin.teleport(player, fallback, COMMAND));
 
         plugin.levelView().saveLevelData(world, false);
 
         var creator = new WorldCreator(world.getName(), world.getKey()).copy(world);
         plugin.levelView().getGenerator(world).ifPresent(creator::generator);
 
-        if (!plugin.getServer().unloadWorld(world, false))
+        // chunks outside the selection are kept, so they have to be written before the regions are reset
+        if (!plugin.getServer().unloadWorld(world, selection != null))
             return "world.unload.failed";
 
-        regenerate(worldFolder);
+        try {
+            if (selection == null) plugin.jobJournal().execute(Job.Type.REGENERATE, worldFolder.toPath());
+            else reset(world, worldFolder.toPath(), selection);
+        } catch (IOException e) {
+            plugin.getComponentLogger().error("Failed to regenerate world {}", world.getName(), e);
+            return "world.regenerate.failed";
+        }
 
         var regenerated = creator.createWorld();
         if (regenerated != null) players.forEach(player ->
-                player.teleportAsync(regenerated.getSpawnLocation(), COMMAND));
+                plugin.teleportAsync(player, regenerated.getSpawnLocation(), COMMAND));
         return regenerated != null ? "world.regenerate.success" : "world.regenerate.failed";
     }
 
-    private String scheduleRegeneration(World world) {
-        Runtime.getRuntime().addShutdownHook(new Thread(() ->
-                regenerate(world.getWorldFolder())));
-        return "world.regenerate.scheduled";
-    }
-
-    private void regenerate(File level) {
-        delete(new File(level, "DIM-1"));
-        delete(new File(level, "DIM1"));
-        delete(new File(level, "advancements"));
-        delete(new File(level, "data"));
-        delete(new File(level, "entities"));
-        delete(new File(level, "playerdata"));
-        delete(new File(level, "poi"));
-        delete(new File(level, "region"));
-        delete(new File(level, "stats"));
+    private void reset(World world, Path level, RegionReset.ChunkSelection selection) throws IOException {
+        var dimension = switch (world.getEnvironment()) {
+            case NETHER -> level.resolve("DIM-1");
+            case THE_END -> level.resolve("DIM1");
+            default -> level;
+        };
+        var result = new RegionReset(plugin.trashBin()).reset(dimension, selection);
+        plugin.getComponentLogger().info("Reset {} regions and {} chunks of {}",
+                result.regions(), result.chunks(), world.getName());
     }
 
-    @SuppressWarnings("UnusedReturnValue")
-    private boolean delete(File file) {
-        if (file.isFile()) return file.delete();
-        var files = file.listFiles();
-        if (files == null) return false;
-        for (var file1 : files) delete(file1);
-        return file.delete();
+    private String scheduleRegeneration(World world) {
+        plugin.jobJournal().schedule(Job.Type.REGENERATE, world.getWorldFolder().toPath());
+        return "world.regenerate.scheduled";
     }
 }
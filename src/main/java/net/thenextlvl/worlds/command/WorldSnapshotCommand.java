@@ -0,0 +1,115 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.api.snapshot.Snapshot;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+
+@NullMarked
+class WorldSnapshotCommand {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)
+            .withZone(ZoneId.systemDefault());
+
+    private final WorldsPlugin plugin;
+
+    WorldSnapshotCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("snapshot")
+                .requires(source -> source.getSender().hasPermission("worlds.command.snapshot"))
+                .then(Commands.argument("world", ArgumentTypes.world())
+                        .suggests(new WorldSuggestionProvider<>(plugin))
+                        .then(Commands.literal("list").executes(this::list))
+                        .then(Commands.literal("restore")
+                                .then(Commands.argument("id", StringArgumentType.word())
+                                        .suggests((context, builder) -> {
+                                            var world = context.getArgument("world", World.class);
+                                            plugin.snapshotController().getSnapshots(world.key()).stream()
+                                                    .map(Snapshot::id)
+                                                    .filter(id -> id.startsWith(builder.getRemaining()))
+                                                    .forEach(builder::suggest);
+                                            return builder.buildFuture();
+                                        })
+                                        .then(Commands.argument("key", ArgumentTypes.namespacedKey())
+                                                .executes(context -> restore(context,
+                                                        context.getArgument("key", NamespacedKey.class))))
+                                        .executes(context -> restore(context,
+                                                context.getArgument("world", World.class).key()))))
+                        .executes(this::snapshot));
+    }
+
+    private int snapshot(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var sender = context.getSource().getSender();
+        plugin.bundle().sendMessage(sender, "world.snapshot.started", Placeholder.parsed("world", world.getName()));
+        plugin.snapshotController().snapshot(world).thenAccept(snapshot ->
+                plugin.bundle().sendMessage(sender, "world.snapshot.success",
+                        Placeholder.parsed("world", world.getName()),
+                        Placeholder.parsed("id", snapshot.id()),
+                        Placeholder.parsed("chunks", String.valueOf(snapshot.chunks())))
+        ).exceptionally(throwable -> {
+            plugin.getComponentLogger().error("Failed to take a snapshot of {}", world.getName(), throwable);
+            plugin.bundle().sendMessage(sender, "world.snapshot.failed", Placeholder.parsed("world", world.getName()));
+            return null;
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int restore(CommandContext<CommandSourceStack> context, Key target) {
+        var world = context.getArgument("world", World.class);
+        var sender = context.getSource().getSender();
+        var id = context.getArgument("id", String.class);
+        var snapshot = plugin.snapshotController().getSnapshot(world.key(), id).orElse(null);
+        if (snapshot == null) {
+            plugin.bundle().sendMessage(sender, "world.snapshot.unknown", Placeholder.parsed("id", id));
+            return 0;
+        }
+        plugin.bundle().sendMessage(sender, "world.snapshot.restore.started",
+                Placeholder.parsed("id", id), Placeholder.parsed("world", target.asString()));
+        plugin.snapshotController().restore(snapshot, target).thenAccept(restored ->
+                plugin.bundle().sendMessage(sender, "world.snapshot.restore.success",
+                        Placeholder.parsed("id", id), Placeholder.parsed("world", restored.getName()))
+        ).exceptionally(throwable -> {
+            plugin.getComponentLogger().error("Failed to restore snapshot {} into {}", id, target.asString(), throwable);
+            plugin.bundle().sendMessage(sender, "world.snapshot.restore.failed",
+                    Placeholder.parsed("id", id), Placeholder.parsed("world", target.asString()));
+            return null;
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int list(CommandContext<CommandSourceStack> context) {
+        var world = context.getArgument("world", World.class);
+        var sender = context.getSource().getSender();
+        var snapshots = plugin.snapshotController().getSnapshots(world.key());
+        if (snapshots.isEmpty()) {
+            plugin.bundle().sendMessage(sender, "world.snapshot.none", Placeholder.parsed("world", world.getName()));
+            return 0;
+        }
+        plugin.bundle().sendMessage(sender, "world.snapshot.list",
+                Placeholder.parsed("world", world.getName()),
+                Placeholder.parsed("amount", String.valueOf(snapshots.size())));
+        snapshots.forEach(snapshot -> plugin.bundle().sendMessage(sender, "world.snapshot.entry",
+                Placeholder.parsed("id", snapshot.id()),
+                Placeholder.parsed("date", DATE_FORMAT.format(snapshot.created())),
+                Placeholder.parsed("chunks", String.valueOf(snapshot.chunks()))));
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -0,0 +1,79 @@
+package net.thenextlvl.worlds.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.bukkit.command.CommandSender;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@NullMarked
+class WorldStatsCommand {
+    private final WorldsPlugin plugin;
+
+    WorldStatsCommand(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    ArgumentBuilder<CommandSourceStack, ?> create() {
+        return Commands.literal("stats")
+                .requires(source -> source.getSender().hasPermission("worlds.command.stats"))
+                .then(Commands.argument("world", ArgumentTypes.key())
+                        .suggests((context, builder) -> {
+                            plugin.statisticsController().getRecordedWorlds().stream()
+                                    .map(Key::asString)
+                                    .filter(s -> s.contains(builder.getRemaining()))
+                                    .forEach(builder::suggest);
+                            return builder.buildFuture();
+                        })
+                        .executes(context -> stats(context, List.of(context.getArgument("world", Key.class)))))
+                .executes(context -> stats(context, plugin.statisticsController().getRecordedWorlds().stream()
+                        .sorted(Comparator.comparing(Key::asString))
+                        .toList()));
+    }
+
+    private int stats(CommandContext<CommandSourceStack> context, List<Key> worlds) {
+        var sender = context.getSource().getSender();
+        var idle = plugin.idleUnloadController();
+        if (idle.reclaimed() > 0) plugin.bundle().sendMessage(sender, "world.stats.idle",
+                Placeholder.parsed("reclaimed", String.valueOf(idle.reclaimed())),
+                Placeholder.parsed("time", format(Duration.ofMillis(idle.unloadTime(TimeUnit.MILLISECONDS)))));
+        var recorded = worlds.stream()
+                .filter(world -> !plugin.statisticsController().getStatistics(world).isEmpty())
+                .toList();
+        if (recorded.isEmpty()) {
+            plugin.bundle().sendMessage(sender, "world.stats.empty");
+            return 0;
+        }
+        recorded.forEach(world -> stats(sender, world));
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private void stats(CommandSender sender, Key world) {
+        plugin.bundle().sendMessage(sender, "world.stats.world", Placeholder.parsed("world", world.asString()));
+        plugin.statisticsController().getStatistics(world).forEach((operation, statistics) ->
+                plugin.bundle().sendMessage(sender, "world.stats.operation",
+                        Placeholder.parsed("operation", operation.name().toLowerCase(Locale.ROOT).replace('_', '-')),
+                        Placeholder.parsed("count", String.valueOf(statistics.count())),
+                        Placeholder.parsed("average", format(statistics.average())),
+                        Placeholder.parsed("p50", format(statistics.p50())),
+                        Placeholder.parsed("p95", format(statistics.p95())),
+                        Placeholder.parsed("p99", format(statistics.p99())),
+                        Placeholder.parsed("max", format(statistics.max()))));
+    }
+
+    private String format(Duration duration) {
+        return String.format(Locale.ROOT, "%.1fms", duration.toNanos() / 1_000_000d);
+    }
+}
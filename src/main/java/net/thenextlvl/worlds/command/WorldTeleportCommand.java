@@ -9,10 +9,11 @@ import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
 import io.papermc.paper.command.brigadier.argument.resolvers.FinePositionResolver;
 import io.papermc.paper.command.brigadier.argument.resolvers.selector.EntitySelectorArgumentResolver;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.thenextlvl.worlds.WorldsPlugin;
-import net.thenextlvl.worlds.command.suggestion.WorldSuggestionProvider;
+import net.thenextlvl.worlds.command.suggestion.KnownWorldSuggestionProvider;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.CommandSender;
@@ -21,6 +22,7 @@ import org.bukkit.entity.Player;
 import org.jspecify.annotations.NullMarked;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND;
 
@@ -35,8 +37,8 @@ class WorldTeleportCommand {
     ArgumentBuilder<CommandSourceStack, ?> create() {
         return Commands.literal("teleport")
                 .requires(source -> source.getSender().hasPermission("worlds.command.teleport"))
-                .then(Commands.argument("world", ArgumentTypes.world())
-                        .suggests(new WorldSuggestionProvider<>(plugin))
+                .then(Commands.argument("world", ArgumentTypes.key())
+                        .suggests(new KnownWorldSuggestionProvider<>(plugin))
                         .then(Commands.argument("entities", ArgumentTypes.entities())
                                 .then(Commands.argument("position", ArgumentTypes.finePosition(true))
                                         .executes(this::teleportEntitiesPosition))
@@ -47,17 +49,15 @@ class WorldTeleportCommand {
     private int teleportEntitiesPosition(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
         var entities = context.getArgument("entities", EntitySelectorArgumentResolver.class);
         var position = context.getArgument("position", FinePositionResolver.class);
-        var world = context.getArgument("world", World.class);
-        var location = position.resolve(context.getSource()).toLocation(world);
         var resolved = entities.resolve(context.getSource());
-        return teleport(context.getSource().getSender(), resolved, location);
+        var finePosition = position.resolve(context.getSource());
+        return teleport(context, resolved, world -> finePosition.toLocation(world));
     }
 
     private int teleportEntities(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
         var entities = context.getArgument("entities", EntitySelectorArgumentResolver.class);
-        var world = context.getArgument("world", World.class);
         var resolved = entities.resolve(context.getSource());
-        return teleport(context.getSource().getSender(), resolved, world.getSpawnLocation());
+        return teleport(context, resolved, World::getSpawnLocation);
     }
 
     private int teleport(CommandContext<CommandSourceStack> context) {
@@ -65,23 +65,35 @@ class WorldTeleportCommand {
             plugin.bundle().sendMessage(context.getSource().getSender(), "command.sender");
             return 0;
         }
-        var world = context.getArgument("world", World.class);
-        return teleport(player, List.of(player), world.getSpawnLocation());
+        return teleport(context, List.of(player), World::getSpawnLocation);
     }
 
-    private int teleport(CommandSender sender, List<Entity> entities, Location location) {
+    private int teleport(CommandContext<CommandSourceStack> context, List<Entity> entities,
+                         Function<World, Location> location) {
+        var sender = context.getSource().getSender();
+        var key = context.getArgument("world", Key.class);
+        plugin.loadController().load(key).thenAccept(world ->
+                teleport(sender, entities, location.apply(world))
+        ).exceptionally(throwable -> {
+            plugin.bundle().sendMessage(sender, "world.load.failed",
+                    Placeholder.parsed("world", key.asString()));
+            return null;
+        });
+        return entities.isEmpty() ? 0 : Command.SINGLE_SUCCESS;
+    }
+
+    private void teleport(CommandSender sender, List<Entity> entities, Location location) {
         var message = entities.size() == 1 ? "world.teleport.other"
                 : entities.isEmpty() ? "world.teleport.none" : "world.teleport.others";
         entities.forEach(entity -> {
-            entity.teleportAsync(location, COMMAND);
+            plugin.teleportAsync(entity, location, COMMAND);
             plugin.bundle().sendMessage(entity, "world.teleport.self",
                     Placeholder.parsed("world", location.getWorld().getName()));
         });
-        if (entities.size() == 1 && entities.getFirst().equals(sender)) return Command.SINGLE_SUCCESS;
+        if (entities.size() == 1 && entities.getFirst().equals(sender)) return;
         plugin.bundle().sendMessage(sender, message,
                 Placeholder.component("entity", entities.isEmpty() ? Component.empty() : entities.getFirst().name()),
                 Placeholder.parsed("entities", String.valueOf(entities.size())),
                 Placeholder.parsed("world", location.getWorld().getName()));
-        return entities.isEmpty() ? 0 : Command.SINGLE_SUCCESS;
     }
 }
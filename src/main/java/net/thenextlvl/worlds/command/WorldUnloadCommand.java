@@ -50,18 +50,9 @@ class WorldUnloadCommand {
         if (world.getKey().toString().equals("minecraft:overworld"))
             return "world.unload.disallowed";
 
-        var fallbackSpawn = fallback != null ? fallback.getSpawnLocation()
-                : plugin.getServer().getWorlds().getFirst().getSpawnLocation();
-        world.getPlayers().forEach(player -> player.teleport(fallbackSpawn));
-
         plugin.persistStatus(world, false, false);
 
-        var dragonBattle = world.getEnderDragonBattle();
-        if (dragonBattle != null) dragonBattle.getBossBar().removeAll();
-
-        if (!world.isAutoSave()) plugin.levelView().saveLevelData(world, false);
-
-        return plugin.getServer().unloadWorld(world, world.isAutoSave())
+        return plugin.loadController().unload(world, fallback)
                 ? "world.unload.success"
                 : "world.unload.failed";
     }
@@ -0,0 +1,34 @@
+package net.thenextlvl.worlds.command.suggestion;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.bukkit.Keyed;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+@NullMarked
+public class KnownWorldSuggestionProvider<S> implements SuggestionProvider<S> {
+    private final WorldsPlugin plugin;
+
+    public KnownWorldSuggestionProvider(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public CompletableFuture<Suggestions> getSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        Stream.concat(
+                        plugin.getServer().getWorlds().stream().map(Keyed::key),
+                        plugin.loadController().getDormantLevels().stream()
+                ).map(Key::asString)
+                .distinct()
+                .filter(s -> s.contains(builder.getRemaining()))
+                .forEach(builder::suggest);
+        return builder.buildFuture();
+    }
+}
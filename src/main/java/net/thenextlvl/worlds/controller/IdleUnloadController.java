@@ -0,0 +1,96 @@
+package net.thenextlvl.worlds.controller;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.bukkit.persistence.PersistentDataType.BOOLEAN;
+import static org.bukkit.persistence.PersistentDataType.INTEGER;
+
+@NullMarked
+public class IdleUnloadController {
+    public static final NamespacedKey IDLE_TIMEOUT = new NamespacedKey("worlds", "idle_timeout");
+
+    private final Map<String, Long> emptySince = new ConcurrentHashMap<>();
+    private final AtomicInteger reclaimed = new AtomicInteger();
+    private final AtomicLong unloadTime = new AtomicLong();
+    private final WorldsPlugin plugin;
+
+    private @Nullable ScheduledTask task;
+
+    public IdleUnloadController(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (task != null) return;
+        task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, ignored -> tick(), 20, 20);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel();
+        emptySince.clear();
+        task = null;
+    }
+
+    public int reclaimed() {
+        return reclaimed.get();
+    }
+
+    public long unloadTime(TimeUnit unit) {
+        return unit.convert(unloadTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private void tick() {
+        var now = System.currentTimeMillis();
+        var mainWorld = plugin.getServer().getWorlds().getFirst();
+        plugin.getServer().getWorlds().forEach(world -> {
+            var key = world.key().asString();
+            var timeout = world.getPersistentDataContainer().get(IDLE_TIMEOUT, INTEGER);
+            if (world.equals(mainWorld) || timeout == null || timeout <= 0 || !world.getPlayers().isEmpty()) {
+                emptySince.remove(key);
+                return;
+            }
+            var since = emptySince.computeIfAbsent(key, ignored -> now);
+            if (now - since < TimeUnit.SECONDS.toMillis(timeout)) return;
+            emptySince.remove(key);
+            unload(world, timeout);
+        });
+    }
+
+    private void unload(World world, int timeout) {
+        var enabled = world.getPersistentDataContainer().getOrDefault(
+                new NamespacedKey("worlds", "enabled"), BOOLEAN, false);
+        var folder = world.getWorldFolder();
+        var name = world.getName();
+
+        var started = System.nanoTime();
+        if (!plugin.loadController().unload(world, null)) {
+            plugin.getComponentLogger().warn("Failed to unload idle world {}", name);
+            return;
+        }
+        var duration = System.nanoTime() - started;
+
+        reclaimed.incrementAndGet();
+        unloadTime.addAndGet(duration);
+
+        if (enabled) try {
+            plugin.loadController().register(folder, plugin.levelBuilder(folder).build());
+        } catch (Exception e) {
+            plugin.getComponentLogger().warn("Failed to register idle world {} as dormant", name, e);
+        }
+
+        plugin.getComponentLogger().info("Unloaded world {} after {}s without players in {}ms ({} reclaimed, {}ms total)",
+                name, timeout, TimeUnit.NANOSECONDS.toMillis(duration),
+                reclaimed(), unloadTime(TimeUnit.MILLISECONDS));
+    }
+}
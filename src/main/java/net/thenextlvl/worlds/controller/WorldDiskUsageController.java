@@ -0,0 +1,120 @@
+package net.thenextlvl.worlds.controller;
+
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.usage.DiskUsage;
+import net.thenextlvl.worlds.api.usage.DiskUsageController;
+import net.thenextlvl.worlds.usage.PaperDiskUsage;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@NullMarked
+public class WorldDiskUsageController implements DiskUsageController {
+    private final Map<File, Cached> cache = new ConcurrentHashMap<>();
+    private final WorldsPlugin plugin;
+
+    public WorldDiskUsageController(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public CompletableFuture<DiskUsage> getUsage(File level) {
+        return CompletableFuture.supplyAsync(() -> compute(level), plugin.ioExecutor());
+    }
+
+    @Override
+    public Optional<DiskUsage> getCachedUsage(File level) {
+        return Optional.ofNullable(cache.get(level)).map(Cached::usage);
+    }
+
+    @Override
+    public CompletableFuture<List<DiskUsage>> getUsages() {
+        var usages = plugin.levelView().listLevels().map(this::getUsage).toList();
+        return CompletableFuture.allOf(usages.toArray(CompletableFuture[]::new)).thenApply(ignored ->
+                usages.stream().map(CompletableFuture::join)
+                        .sorted(Comparator.comparingLong(DiskUsage::total).reversed())
+                        .toList());
+    }
+
+    private DiskUsage compute(File level) {
+        var stamp = stamp(level.toPath());
+        var cached = cache.get(level);
+        if (cached != null && cached.stamp() == stamp) return cached.usage();
+        var usage = scan(level);
+        cache.put(level, new Cached(stamp, usage));
+        return usage;
+    }
+
+    /**
+     * Region files are modified in place, which doesn't touch the modification time of their folder.
+     * The level data however is replaced on every save, so together with the folders
+     * it reliably tells whether the level changed since it was last scanned.
+     */
+    private long stamp(Path level) {
+        try (var paths = Files.walk(level, 2)) {
+            return paths.filter(path -> Files.isDirectory(path) || path.getFileName().toString().equals("level.dat"))
+                    .mapToLong(path -> path.toFile().lastModified())
+                    .max().orElse(0);
+        } catch (IOException e) {
+            return System.nanoTime();
+        }
+    }
+
+    private DiskUsage scan(File level) {
+        var sizes = new long[Folder.values().length];
+        var root = level.toPath();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    sizes[Folder.of(root.relativize(file)).ordinal()] += attributes.size();
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compute the disk usage of " + level, e);
+        }
+        var total = 0L;
+        for (var size : sizes) total += size;
+        return new PaperDiskUsage(level, total,
+                sizes[Folder.REGION.ordinal()], sizes[Folder.ENTITIES.ordinal()], sizes[Folder.POI.ordinal()],
+                sizes[Folder.DATA.ordinal()], sizes[Folder.DIMENSIONS.ordinal()], sizes[Folder.OTHER.ordinal()]);
+    }
+
+    private enum Folder {
+        REGION, ENTITIES, POI, DATA, DIMENSIONS, OTHER;
+
+        private static Folder of(Path relative) {
+            if (relative.getNameCount() < 2) return OTHER;
+            return switch (relative.getName(0).toString()) {
+                case "region" -> REGION;
+                case "entities" -> ENTITIES;
+                case "poi" -> POI;
+                case "data" -> DATA;
+                case "DIM-1", "DIM1", "dimensions" -> DIMENSIONS;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private record Cached(long stamp, DiskUsage usage) {
+    }
+}
@@ -7,40 +7,42 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.PortalType;
 import org.bukkit.World;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.bukkit.persistence.PersistentDataType.STRING;
 
+/**
+ * Keeps the links of all loaded worlds in memory.
+ * <p>
+ * The link keys are parsed once per world from its persistent data container,
+ * the target worlds are resolved on first use and dropped whenever a world is loaded or unloaded.
+ * Portal lookups through {@link #resolve(World, PortalType)} neither parse nor allocate.
+ */
 @NullMarked
 public class WorldLinkController implements LinkController {
+    private static final Relative[] RELATIVES = Relative.values();
+
+    private final Map<World, Links> links = new ConcurrentHashMap<>();
     private final WorldsPlugin plugin;
 
     public WorldLinkController(WorldsPlugin plugin) {
         this.plugin = plugin;
     }
+
     @Override
     public Optional<NamespacedKey> getTarget(World world, Relative relative) {
-        return Optional.ofNullable(world.getPersistentDataContainer()
-                .get(relative.key(), STRING)
-        ).map(NamespacedKey::fromString);
+        return Optional.ofNullable(links(world).targets[relative.ordinal()]);
     }
 
     @Override
     public Optional<NamespacedKey> getTarget(World world, PortalType type) {
-        return switch (type) {
-            case NETHER -> switch (world.getEnvironment()) {
-                case NORMAL, THE_END -> getTarget(world, Relative.NETHER);
-                case NETHER -> getTarget(world, Relative.OVERWORLD);
-                default -> Optional.empty();
-            };
-            case ENDER -> switch (world.getEnvironment()) {
-                case NORMAL, NETHER -> getTarget(world, Relative.THE_END);
-                case THE_END -> getTarget(world, Relative.OVERWORLD);
-                default -> Optional.empty();
-            };
-            default -> Optional.empty();
-        };
+        var relative = relative(world, type);
+        return relative != null ? getTarget(world, relative) : Optional.empty();
     }
 
     @Override
@@ -53,6 +55,48 @@ public class WorldLinkController implements LinkController {
         };
     }
 
+    /**
+     * Resolves the loaded world a portal of the given type leads to.
+     *
+     * @return the target world, or null if there is no link or the target is not loaded
+     */
+    public @Nullable World resolve(World world, PortalType type) {
+        var relative = relative(world, type);
+        if (relative == null) return null;
+        var links = links(world);
+        var resolved = links.resolved[relative.ordinal()];
+        if (resolved != null) return resolved;
+        var target = links.targets[relative.ordinal()];
+        if (target == null) return null;
+        resolved = plugin.getServer().getWorld(target);
+        links.resolved[relative.ordinal()] = resolved;
+        return resolved;
+    }
+
+    /**
+     * Retrieves the key a portal of the given type leads to, without parsing the persistent data container.
+     */
+    public @Nullable NamespacedKey target(World world, PortalType type) {
+        var relative = relative(world, type);
+        return relative != null ? links(world).targets[relative.ordinal()] : null;
+    }
+
+    private @Nullable Relative relative(World world, PortalType type) {
+        return switch (type) {
+            case NETHER -> switch (world.getEnvironment()) {
+                case NORMAL, THE_END -> Relative.NETHER;
+                case NETHER -> Relative.OVERWORLD;
+                default -> null;
+            };
+            case ENDER -> switch (world.getEnvironment()) {
+                case NORMAL, NETHER -> Relative.THE_END;
+                case THE_END -> Relative.OVERWORLD;
+                default -> null;
+            };
+            default -> null;
+        };
+    }
+
     @Override
     public boolean canLink(World source, World destination) {
         return source.getEnvironment().equals(World.Environment.NORMAL)
@@ -73,9 +117,12 @@ public class WorldLinkController implements LinkController {
         getTarget(source, opposite).map(plugin.getServer()::getWorld).ifPresent(sibling -> {
             sibling.getPersistentDataContainer().set(child.key(), STRING, destination.key().asString());
             destination.getPersistentDataContainer().set(opposite.key(), STRING, sibling.key().asString());
+            links.remove(sibling);
         });
         destination.getPersistentDataContainer().set(Relative.OVERWORLD.key(), STRING, source.key().asString());
         source.getPersistentDataContainer().set(child.key(), STRING, destination.key().asString());
+        links.remove(destination);
+        links.remove(source);
         return true;
     }
 
@@ -86,7 +133,46 @@ public class WorldLinkController implements LinkController {
         parent.ifPresent(key -> world.ifPresent(destination -> {
             destination.getPersistentDataContainer().remove(key);
             source.getPersistentDataContainer().remove(relative.key());
+            links.remove(destination);
+            links.remove(source);
         }));
         return world.isPresent();
     }
+
+    /**
+     * Reads the links of a newly loaded world and drops all resolved targets,
+     * since the world might be the target of an existing link.
+     */
+    public void load(World world) {
+        links.remove(world);
+        links(world);
+        links.values().forEach(Links::clearResolved);
+    }
+
+    public void forget(World world) {
+        links.remove(world);
+        links.values().forEach(Links::clearResolved);
+    }
+
+    private Links links(World world) {
+        var cached = links.get(world);
+        if (cached != null) return cached;
+        var read = new Links();
+        var container = world.getPersistentDataContainer();
+        for (var relative : RELATIVES) {
+            var value = container.get(relative.key(), STRING);
+            read.targets[relative.ordinal()] = value != null ? NamespacedKey.fromString(value) : null;
+        }
+        var previous = links.putIfAbsent(world, read);
+        return previous != null ? previous : read;
+    }
+
+    private static final class Links {
+        private final @Nullable NamespacedKey[] targets = new NamespacedKey[RELATIVES.length];
+        private final @Nullable World[] resolved = new World[RELATIVES.length];
+
+        private void clearResolved() {
+            Arrays.fill(resolved, null);
+        }
+    }
 }
@@ -0,0 +1,293 @@
+package net.thenextlvl.worlds.controller;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.key.Key;
+import net.minecraft.util.DirectoryLock;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.exception.GeneratorException;
+import net.thenextlvl.worlds.api.load.LoadController;
+import net.thenextlvl.worlds.api.model.Level;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.PLUGIN;
+
+@NullMarked
+public class WorldLoadController implements LoadController {
+    private static final int PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Map<String, Dormant> dormant = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<World>> pending = new ConcurrentHashMap<>();
+    private final Set<Path> reserved = ConcurrentHashMap.newKeySet();
+    private final WorldsPlugin plugin;
+
+    public WorldLoadController(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void loadLevels() {
+        var started = System.nanoTime();
+        var levels = plugin.levelView().listLevels()
+                .filter(plugin.levelView()::canLoad)
+                .toList();
+
+        var discovered = discover(levels);
+        var decoded = System.nanoTime();
+
+        var partitioned = discovered.stream().collect(Collectors.partitioningBy(discovery ->
+                discovery.level() != null && discovery.level().lazy()));
+        var lazy = partitioned.get(true);
+        lazy.forEach(discovery -> register(discovery.directory(), Objects.requireNonNull(discovery.level())));
+
+        var eager = partitioned.get(false).stream()
+                .filter(discovery -> discovery.level() != null || discovery.exception() != null)
+                .sorted(Comparator.comparingInt(Discovery::deferTicks)
+                        .thenComparing(Comparator.comparingInt(Discovery::priority).reversed()))
+                .toList();
+
+        var staged = eager.stream().filter(Discovery::isStaged).toList();
+        staged.stream().filter(discovery -> discovery.level() != null).forEach(discovery ->
+                register(discovery.directory(), Objects.requireNonNull(discovery.level())));
+        var loaded = eager.stream()
+                .filter(discovery -> !discovery.isStaged())
+                .filter(this::create)
+                .count();
+        var finished = System.nanoTime();
+
+        plugin.levelIndex().save();
+
+        plugin.getComponentLogger().info("Loaded {} of {} levels in {}ms (discovery {}ms, creation {}ms), {} staged, {} dormant",
+                loaded, levels.size(), millis(finished - started),
+                millis(decoded - started), millis(finished - decoded), staged.size(), lazy.size());
+
+        if (!staged.isEmpty()) loadStaged(new ArrayDeque<>(staged));
+    }
+
+    private void loadStaged(Queue<Discovery> queue) {
+        var started = System.nanoTime();
+        var total = queue.size();
+        var ticks = new AtomicInteger();
+        var loaded = new AtomicInteger();
+        plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
+            var tick = ticks.getAndIncrement();
+            var next = queue.peek();
+            if (next != null && next.deferTicks() <= tick) {
+                queue.poll();
+                if (unstage(next) && create(next)) loaded.incrementAndGet();
+            }
+            if (!queue.isEmpty()) return;
+            finishStaged(task, loaded.get(), total, started);
+        }, 1, 1);
+    }
+
+    /**
+     * Staged levels are dormant until their turn comes, so they can be loaded on demand in the meantime.
+     *
+     * @return whether the level still has to be created
+     */
+    private boolean unstage(Discovery discovery) {
+        var level = discovery.level();
+        return level == null || dormant.remove(level.key().asString()) != null;
+    }
+
+    private void finishStaged(ScheduledTask task, int loaded, int total, long started) {
+        task.cancel();
+        plugin.levelIndex().save();
+        plugin.getComponentLogger().info("Loaded {} of {} staged levels in {}ms",
+                loaded, total, millis(System.nanoTime() - started));
+    }
+
+    @Override
+    public CompletableFuture<World> load(Key key) {
+        var world = plugin.getServer().getWorld(key);
+        if (world != null) return CompletableFuture.completedFuture(world);
+        var level = dormant.get(key.asString());
+        if (level == null) return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Unknown level: " + key.asString()));
+        return pending.computeIfAbsent(key.asString(), ignored -> {
+            var future = new CompletableFuture<World>();
+            plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+                try {
+                    var created = Optional.ofNullable(plugin.getServer().getWorld(key)).or(level.level()::create);
+                    created.ifPresentOrElse(future::complete, () -> future.completeExceptionally(
+                            new IllegalStateException("Failed to create level " + level.level().name())));
+                    created.ifPresent(loaded -> plugin.getComponentLogger().info(
+                            "Loaded dormant dimension {} on demand", loaded.key().asString()));
+                } catch (Exception e) {
+                    handleException(level.directory(), e);
+                    future.completeExceptionally(e);
+                } finally {
+                    pending.remove(key.asString());
+                    if (future.isDone() && !future.isCompletedExceptionally()) dormant.remove(key.asString());
+                }
+            });
+            return future;
+        });
+    }
+
+    @Override
+    public Set<Key> getDormantLevels() {
+        return dormant.values().stream()
+                .<Key>map(level -> level.level().key())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public boolean isDormant(Key key) {
+        return dormant.containsKey(key.asString()) && plugin.getServer().getWorld(key) == null;
+    }
+
+    public boolean isDormant(File directory) {
+        var path = normalize(directory);
+        return dormant.values().stream().anyMatch(level -> normalize(level.directory()).equals(path));
+    }
+
+    /**
+     * Reserves a level directory for an offline operation, loading it is refused until it is released.
+     *
+     * @return whether the directory was not reserved yet
+     */
+    public boolean reserve(File directory) {
+        return reserved.add(normalize(directory));
+    }
+
+    public void release(File directory) {
+        reserved.remove(normalize(directory));
+    }
+
+    public boolean isReserved(File directory) {
+        return reserved.contains(normalize(directory));
+    }
+
+    private static Path normalize(File directory) {
+        return directory.toPath().toAbsolutePath().normalize();
+    }
+
+    public boolean unload(World world, @Nullable World fallback) {
+        return unload(world, fallback, true);
+    }
+
+    public boolean unload(World world, @Nullable World fallback, boolean save) {
+        var fallbackSpawn = fallback != null ? fallback.getSpawnLocation()
+                : plugin.getServer().getWorlds().getFirst().getSpawnLocation();
+        world.getPlayers().forEach(player -> plugin.teleport(player, fallbackSpawn, PLUGIN));
+
+        var dragonBattle = world.getEnderDragonBattle();
+        if (dragonBattle != null) dragonBattle.getBossBar().removeAll();
+
+        if (save && !world.isAutoSave()) plugin.levelView().saveLevelData(world, false);
+
+        return plugin.statisticsController().time(world.key(), LifecycleOperation.UNLOAD, () ->
+                plugin.getServer().unloadWorld(world, save && world.isAutoSave()));
+    }
+
+    public void register(File directory, Level level) {
+        dormant.put(level.key().asString(), new Dormant(directory, level));
+    }
+
+    public void forget(Key key) {
+        dormant.remove(key.asString());
+    }
+
+    private List<Discovery> discover(List<File> levels) {
+        var permits = new Semaphore(PARALLELISM);
+        var factory = Thread.ofVirtual().name("Worlds Level Discovery #", 0).factory();
+        try (var executor = Executors.newThreadPerTaskExecutor(factory)) {
+            return levels.stream()
+                    .map(level -> CompletableFuture.supplyAsync(() -> discover(level, permits), executor))
+                    .toList().stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        }
+    }
+
+    private Discovery discover(File directory, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Discovery(directory, null, e);
+        }
+        try {
+            var level = plugin.levelBuilder(directory).build();
+            return new Discovery(directory, level.enabled() ? level : null, null);
+        } catch (Exception e) {
+            return new Discovery(directory, null, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean create(Discovery discovery) {
+        try {
+            if (discovery.exception() != null) throw discovery.exception();
+            var level = Objects.requireNonNull(discovery.level());
+            return level.create().map(world -> {
+                plugin.getComponentLogger().debug("Loaded dimension {} ({}) from {}",
+                        world.key().asString(), level.type().key().asString(),
+                        world.getWorldFolder().getPath());
+                return world;
+            }).isPresent();
+        } catch (Exception e) {
+            handleException(discovery.directory(), e);
+            return false;
+        }
+    }
+
+    private void handleException(File directory, Exception exception) {
+        if (exception instanceof GeneratorException e) {
+            var generator = e.getId() != null ? e.getPlugin() + e.getId() : e.getPlugin();
+            plugin.getComponentLogger().error("Skip loading dimension {}", directory.getName());
+            plugin.getComponentLogger().error("Cannot use generator {}: {}", generator, e.getMessage());
+        } else if (exception.getCause() instanceof DirectoryLock.LockException lock) {
+            plugin.getComponentLogger().error("Failed to start the minecraft server", lock);
+            plugin.getServer().shutdown();
+        } else {
+            plugin.getComponentLogger().error("An unexpected error occurred while loading the level {}",
+                    directory.getName(), exception);
+            plugin.getComponentLogger().error("Please report the error above on GitHub: {}",
+                    "https://github.com/TheNextLvl-net/worlds/issues/new/choose");
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record Dormant(File directory, Level level) {
+    }
+
+    private record Discovery(File directory, @Nullable Level level, @Nullable Exception exception) {
+        private int priority() {
+            return level != null ? level.priority() : 0;
+        }
+
+        private int deferTicks() {
+            return level != null ? Math.max(0, level.deferTicks()) : 0;
+        }
+
+        private boolean isStaged() {
+            return priority() < 0 || deferTicks() > 0;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package net.thenextlvl.worlds.controller;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import core.file.format.GsonFile;
+import core.io.IO;
+import net.kyori.adventure.key.InvalidKeyException;
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.pool.PoolController;
+import net.thenextlvl.worlds.api.pool.TemplatePool;
+import net.thenextlvl.worlds.io.FileDeleter;
+import net.thenextlvl.worlds.io.LevelPaths;
+import net.thenextlvl.worlds.pool.PaperTemplatePool;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@NullMarked
+public class WorldPoolController implements PoolController {
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Map<String, PaperTemplatePool> pools = new ConcurrentHashMap<>();
+    private final GsonFile<JsonObject> file;
+    private final WorldsPlugin plugin;
+
+    public WorldPoolController(WorldsPlugin plugin) {
+        this.file = new GsonFile<>(IO.of(plugin.getDataFolder(), "pools.json"), new JsonObject(), gson);
+        this.plugin = plugin;
+    }
+
+    @Override
+    public Optional<TemplatePool> getPool(Key template) {
+        return Optional.ofNullable(pools.get(template.asString()));
+    }
+
+    @Override
+    public Optional<TemplatePool> getInstancePool(World instance) {
+        return pools.values().stream()
+                .filter(pool -> pool.isInstance(instance))
+                .map(TemplatePool.class::cast)
+                .findAny();
+    }
+
+    @Override
+    public Set<TemplatePool> getPools() {
+        return Set.copyOf(pools.values());
+    }
+
+    @Override
+    public TemplatePool createPool(Key template, int size, boolean preload) {
+        if (size < 1) throw new IllegalArgumentException("Pool size must be positive: " + size);
+        var existing = pools.get(template.asString());
+        if (existing != null) existing.resize(size, preload);
+        var pool = existing != null ? existing : new PaperTemplatePool(plugin, template, size, preload);
+        pools.put(template.asString(), pool);
+        save();
+        if (existing == null) pool.replenish();
+        return pool;
+    }
+
+    @Override
+    public boolean removePool(Key template) {
+        var pool = pools.remove(template.asString());
+        if (pool == null) return false;
+        pool.dispose();
+        save();
+        return true;
+    }
+
+    /**
+     * Restores the pool definitions and deletes all instances left behind by the previous run,
+     * before the server gets a chance to load them as levels.
+     */
+    public void load() {
+        file.getRoot().entrySet().forEach(entry -> {
+            try {
+                var definition = gson.fromJson(entry.getValue(), Definition.class);
+                var template = Key.key(entry.getKey());
+                definition.directories().forEach(directory -> delete(template, directory));
+                pools.put(template.asString(), new PaperTemplatePool(plugin, template,
+                        definition.size(), definition.preload()));
+            } catch (JsonParseException | InvalidKeyException e) {
+                plugin.getComponentLogger().warn("Dropping malformed template pool {}", entry.getKey());
+            }
+        });
+        save();
+    }
+
+    public void start() {
+        pools.values().forEach(PaperTemplatePool::replenish);
+    }
+
+    public void save() {
+        var root = file.getRoot();
+        Set.copyOf(root.keySet()).forEach(root::remove);
+        pools.values().forEach(pool -> root.add(pool.template().asString(), gson.toJsonTree(
+                new Definition(pool.size(), pool.preload(), pool.directories()))));
+        file.save();
+    }
+
+    /**
+     * Deletes a stale instance, unless the recorded name doesn't belong to an instance of the template
+     * or the directory is in use as a level.
+     */
+    private void delete(Key template, String directory) {
+        var level = LevelPaths.resolve(plugin.getServer().getWorldContainer().toPath(), directory)
+                .filter(path -> PaperTemplatePool.isInstanceName(template, directory))
+                .map(Path::toFile)
+                .filter(plugin.levelView()::canLoad)
+                .filter(file -> !plugin.loadController().isDormant(file))
+                .orElse(null);
+        if (level == null) {
+            plugin.getComponentLogger().warn("Skipping the invalid pool instance {} of {}",
+                    directory, template.asString());
+            return;
+        }
+        try {
+            FileDeleter.delete(level.toPath());
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to delete the stale pool instance {}", directory, e);
+        }
+    }
+
+    private record Definition(int size, boolean preload, Set<String> directories) {
+    }
+}
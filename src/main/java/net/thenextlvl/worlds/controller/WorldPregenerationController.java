@@ -0,0 +1,135 @@
+package net.thenextlvl.worlds.controller;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import core.file.format.GsonFile;
+import core.io.IO;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.key.InvalidKeyException;
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.pregeneration.Pregeneration;
+import net.thenextlvl.worlds.api.pregeneration.PregenerationController;
+import net.thenextlvl.worlds.pregeneration.PaperPregeneration;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@NullMarked
+public class WorldPregenerationController implements PregenerationController {
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Map<String, PaperPregeneration> pregenerations = new ConcurrentHashMap<>();
+    private final GsonFile<JsonObject> file;
+    private final WorldsPlugin plugin;
+
+    private @Nullable ScheduledTask task;
+    private long ticks;
+
+    public WorldPregenerationController(WorldsPlugin plugin) {
+        this.file = new GsonFile<>(IO.of(plugin.getDataFolder(), "pregeneration.json"), new JsonObject(), gson);
+        this.plugin = plugin;
+    }
+
+    @Override
+    public Pregeneration start(World world, int radius) throws IllegalStateException {
+        if (pregenerations.containsKey(world.key().asString()))
+            throw new IllegalStateException("World " + world.key().asString() + " is already being pre-generated");
+        var spawn = world.getSpawnLocation();
+        var pregeneration = new PaperPregeneration(plugin, world.key(), spawn.getBlockX() >> 4,
+                spawn.getBlockZ() >> 4, Math.ceilDiv(Math.max(0, radius), 16), 0);
+        pregenerations.put(world.key().asString(), pregeneration);
+        save();
+        return pregeneration;
+    }
+
+    @Override
+    public boolean cancel(World world) {
+        var pregeneration = pregenerations.remove(world.key().asString());
+        if (pregeneration == null) return false;
+        pregeneration.completion().completeExceptionally(new CancellationException("Pre-generation was cancelled"));
+        save();
+        return true;
+    }
+
+    @Override
+    public Optional<Pregeneration> getPregeneration(World world) {
+        return Optional.ofNullable(pregenerations.get(world.key().asString()));
+    }
+
+    @Override
+    public Set<Pregeneration> getPregenerations() {
+        return Set.copyOf(pregenerations.values());
+    }
+
+    /**
+     * Restores the persisted pre-generations, which continue as soon as their world is loaded.
+     */
+    public void start() {
+        file.getRoot().entrySet().forEach(entry -> {
+            try {
+                var progress = gson.fromJson(entry.getValue(), Progress.class);
+                var key = Key.key(entry.getKey());
+                pregenerations.put(key.asString(), new PaperPregeneration(plugin, key,
+                        progress.centerX(), progress.centerZ(), progress.radius(), progress.completed()));
+            } catch (JsonParseException | InvalidKeyException e) {
+                plugin.getComponentLogger().warn("Dropping malformed pre-generation {}", entry.getKey());
+            }
+        });
+        task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> tick(), 1, 1);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+        save();
+    }
+
+    private void tick() {
+        var tick = ++ticks;
+        pregenerations.values().forEach(pregeneration -> {
+            var world = plugin.getServer().getWorld(pregeneration.world());
+            if (world == null) return;
+            if (pregeneration.isDone()) finish(pregeneration);
+            else pregeneration.tick(world, tick);
+        });
+        if (pregenerations.isEmpty()) return;
+        if (tick % 200 == 0) pregenerations.values().forEach(this::report);
+        if (tick % 600 == 0) save();
+    }
+
+    private void finish(PaperPregeneration pregeneration) {
+        pregenerations.remove(pregeneration.world().asString());
+        save();
+        plugin.getComponentLogger().info("Finished pre-generating {} chunks of {}",
+                pregeneration.totalChunks(), pregeneration.world().asString());
+        pregeneration.completion().complete(null);
+    }
+
+    private void report(PaperPregeneration pregeneration) {
+        plugin.getComponentLogger().info("Pre-generating {}: {}/{} chunks ({}%), {} chunks/s, concurrency {}",
+                pregeneration.world().asString(), pregeneration.completedChunks(), pregeneration.totalChunks(),
+                pregeneration.completedChunks() * 100 / pregeneration.totalChunks(),
+                String.format(Locale.ROOT, "%.1f", pregeneration.chunksPerSecond()), pregeneration.concurrency());
+    }
+
+    private void save() {
+        var root = file.getRoot();
+        Set.copyOf(root.keySet()).forEach(root::remove);
+        pregenerations.values().forEach(pregeneration -> root.add(pregeneration.world().asString(),
+                gson.toJsonTree(new Progress(pregeneration.centerX(), pregeneration.centerZ(),
+                        pregeneration.radius(), pregeneration.progress()))));
+        file.save();
+    }
+
+    private record Progress(int centerX, int centerZ, int radius, long completed) {
+    }
+}
@@ -0,0 +1,242 @@
+package net.thenextlvl.worlds.controller;
+
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.io.FileDeleter;
+import net.thenextlvl.worlds.io.LevelPaths;
+import net.thenextlvl.worlds.api.snapshot.Snapshot;
+import net.thenextlvl.worlds.api.snapshot.SnapshotController;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
+import net.thenextlvl.worlds.snapshot.ChunkStore;
+import net.thenextlvl.worlds.snapshot.PaperSnapshot;
+import net.thenextlvl.worlds.snapshot.SnapshotManifest;
+import net.thenextlvl.worlds.snapshot.SnapshotRestorer;
+import net.thenextlvl.worlds.snapshot.SnapshotWriter;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+@NullMarked
+public class WorldSnapshotController implements SnapshotController {
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern ID_PATTERN = Pattern.compile("[0-9-]+");
+    private static final String EXTENSION = ".snapshot";
+
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final ChunkStore store;
+    private final WorldsPlugin plugin;
+    private final Path directory;
+
+    public WorldSnapshotController(WorldsPlugin plugin) {
+        this.directory = plugin.getDataFolder().toPath().resolve("snapshots");
+        this.store = new ChunkStore(directory.resolve("chunks"));
+        this.plugin = plugin;
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> snapshot(World world) {
+        if (!running.add(world.key().asString())) return CompletableFuture.failedFuture(
+                new IllegalStateException("A snapshot of " + world.key().asString() + " is already being taken"));
+
+        var started = System.nanoTime();
+        plugin.saveFreeze().freeze(world);
+
+        var snapshot = new PaperSnapshot(nextId(world.key()), world.key(), Instant.now(), 0, 0);
+        var writer = new SnapshotWriter(store, plugin.ioExecutor());
+        var level = world.getWorldFolder().toPath();
+
+        return CompletableFuture.supplyAsync(() -> latest(world.key()), plugin.ioExecutor())
+                .thenCompose(previous -> writer.write(level, snapshot, previous))
+                .thenApplyAsync(manifest -> {
+                    try {
+                        manifest.write(path(world.key(), manifest.snapshot().id()));
+                        return manifest.snapshot();
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, plugin.ioExecutor())
+                .whenCompleteAsync((result, throwable) -> {
+                    plugin.saveFreeze().thaw(world);
+                    running.remove(world.key().asString());
+                    if (result == null) return;
+                    var duration = Duration.ofNanos(System.nanoTime() - started);
+                    plugin.statisticsController().record(world.key(), LifecycleOperation.SNAPSHOT, duration);
+                    plugin.getComponentLogger().info("Took snapshot {} of {} in {}ms ({} chunks stored, {} reused)",
+                            result.id(), world.getName(), duration.toMillis(),
+                            writer.storedChunks(), writer.reusedChunks());
+                }, task -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, task))
+                .thenApply(Snapshot.class::cast);
+    }
+
+    @Override
+    public CompletableFuture<World> restore(Snapshot snapshot, Key target) {
+        var container = plugin.getServer().getWorldContainer().toPath();
+        var existing = plugin.getServer().getWorld(target);
+        var level = existing != null ? existing.getWorldFolder().toPath().toAbsolutePath().normalize()
+                : LevelPaths.resolve(container, target.value()).orElse(null);
+        if (level == null || !LevelPaths.isInside(container, level)) return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Invalid restore target " + target.asString()));
+
+        if (!running.add(target.asString())) return CompletableFuture.failedFuture(
+                new IllegalStateException("A snapshot of " + target.asString() + " is already being processed"));
+
+        var started = System.nanoTime();
+        var staging = container.resolve("." + level.getFileName() + ".restore-" + System.currentTimeMillis());
+
+        if (existing != null && !plugin.loadController().unload(existing, null, false)) {
+            running.remove(target.asString());
+            return CompletableFuture.failedFuture(new IllegalStateException("Failed to unload " + target.asString()));
+        }
+
+        var replaced = new AtomicBoolean();
+        var restorer = new SnapshotRestorer(store, plugin.ioExecutor());
+        return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return readManifest(snapshot);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, plugin.ioExecutor())
+                .thenCompose(manifest -> restorer.restore(manifest, staging))
+                .thenRunAsync(() -> {
+                    try {
+                        replaced.set(true);
+                        if (Files.exists(level)) plugin.trashBin().trash(level);
+                        Files.move(staging, level, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, plugin.ioExecutor())
+                .thenApplyAsync(ignored -> plugin.levelBuilder(level.toFile())
+                        .key(new NamespacedKey(target.namespace(), target.value()))
+                        .build().create()
+                        .orElseThrow(() -> new IllegalStateException("Failed to create " + target.asString())),
+                        task -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, task))
+                .whenComplete((world, throwable) -> {
+                    running.remove(target.asString());
+                    if (throwable != null) plugin.ioExecutor().execute(() -> delete(staging));
+                    if (throwable != null && existing != null && !replaced.get()) reload(level, target);
+                    if (world == null) return;
+                    plugin.persistWorld(world, true);
+                    var duration = Duration.ofNanos(System.nanoTime() - started);
+                    plugin.statisticsController().record(world.key(), LifecycleOperation.RESTORE, duration);
+                    plugin.getComponentLogger().info("Restored snapshot {} of {} into {} in {}ms",
+                            snapshot.id(), snapshot.world().asString(), world.getName(), duration.toMillis());
+                });
+    }
+
+    /**
+     * Loads the original level again if the restore failed before its folder was touched.
+     */
+    private void reload(Path level, Key key) {
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+            try {
+                plugin.levelBuilder(level.toFile())
+                        .key(new NamespacedKey(key.namespace(), key.value()))
+                        .build().create()
+                        .ifPresent(world -> plugin.persistWorld(world, true));
+            } catch (Exception e) {
+                plugin.getComponentLogger().error("Failed to reload {} after a failed restore", key.asString(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<Snapshot> getSnapshots(Key world) {
+        return list(world).stream()
+                .<Snapshot>map(this::readHeader)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(Snapshot::created))
+                .toList();
+    }
+
+    @Override
+    public Optional<Snapshot> getSnapshot(Key world, String id) {
+        if (!ID_PATTERN.matcher(id).matches()) return Optional.empty();
+        var path = path(world, id);
+        return Files.isRegularFile(path) ? Optional.ofNullable(readHeader(path)) : Optional.empty();
+    }
+
+    public ChunkStore store() {
+        return store;
+    }
+
+    public SnapshotManifest readManifest(Snapshot snapshot) throws IOException {
+        return SnapshotManifest.read(path(snapshot.world(), snapshot.id()));
+    }
+
+    private @Nullable SnapshotManifest latest(Key world) {
+        var latest = list(world).stream().max(Comparator.comparing(path -> path.getFileName().toString()));
+        if (latest.isEmpty()) return null;
+        try {
+            return SnapshotManifest.read(latest.get());
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to read the previous snapshot {}, taking a full snapshot",
+                    latest.get(), e);
+            return null;
+        }
+    }
+
+    private @Nullable PaperSnapshot readHeader(Path path) {
+        try {
+            return SnapshotManifest.readHeader(path);
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to read snapshot {}", path, e);
+            return null;
+        }
+    }
+
+    private List<Path> list(Key world) {
+        var folder = folder(world);
+        if (!Files.isDirectory(folder)) return List.of();
+        try (var files = Files.list(folder)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).toList();
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to list the snapshots of {}", world.asString(), e);
+            return List.of();
+        }
+    }
+
+    private String nextId(Key world) {
+        var base = LocalDateTime.now().format(ID_FORMAT);
+        var id = base;
+        for (var i = 1; Files.exists(path(world, id)); i++) id = base + "-" + i;
+        return id;
+    }
+
+    private void delete(Path path) {
+        try {
+            if (Files.exists(path)) FileDeleter.delete(path);
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to clean up incomplete restore {}", path, e);
+        }
+    }
+
+    private Path folder(Key world) {
+        return directory.resolve("worlds").resolve(world.namespace()).resolve(world.value());
+    }
+
+    private Path path(Key world, String id) {
+        return folder(world).resolve(id + EXTENSION);
+    }
+}
@@ -0,0 +1,95 @@
+package net.thenextlvl.worlds.controller;
+
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
+import net.thenextlvl.worlds.api.statistics.OperationStatistics;
+import net.thenextlvl.worlds.api.statistics.StatisticsController;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@NullMarked
+public class WorldStatisticsController implements StatisticsController {
+    private static final int SAMPLES = 256;
+
+    private final Map<String, Map<LifecycleOperation, Recorder>> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<LifecycleOperation, OperationStatistics> getStatistics(Key world) {
+        var operations = recorders.get(world.asString());
+        if (operations == null) return Map.of();
+        var statistics = new EnumMap<LifecycleOperation, OperationStatistics>(LifecycleOperation.class);
+        operations.forEach((operation, recorder) -> statistics.put(operation, recorder.statistics()));
+        return statistics;
+    }
+
+    @Override
+    public Optional<OperationStatistics> getStatistics(Key world, LifecycleOperation operation) {
+        return Optional.ofNullable(recorders.get(world.asString()))
+                .map(operations -> operations.get(operation))
+                .map(Recorder::statistics);
+    }
+
+    @Override
+    public Set<Key> getRecordedWorlds() {
+        return recorders.keySet().stream()
+                .map(Key::key)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void record(Key world, LifecycleOperation operation, Duration duration) {
+        record(world, operation, duration.toNanos());
+    }
+
+    public <T> T time(Key world, LifecycleOperation operation, Supplier<T> supplier) {
+        var started = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(world, operation, System.nanoTime() - started);
+        }
+    }
+
+    private void record(Key world, LifecycleOperation operation, long nanos) {
+        recorders.computeIfAbsent(world.asString(), ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, ignored -> new Recorder())
+                .record(nanos);
+    }
+
+    private static class Recorder {
+        private final long[] samples = new long[SAMPLES];
+        private long count;
+        private long total;
+        private long max;
+
+        private synchronized void record(long nanos) {
+            samples[(int) (count % SAMPLES)] = nanos;
+            count++;
+            total += nanos;
+            max = Math.max(max, nanos);
+        }
+
+        private synchronized OperationStatistics statistics() {
+            var sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLES));
+            Arrays.sort(sorted);
+            return new OperationStatistics(count, Duration.ofNanos(total),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), Duration.ofNanos(max));
+        }
+
+        private static Duration percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) return Duration.ZERO;
+            var index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+    }
+}
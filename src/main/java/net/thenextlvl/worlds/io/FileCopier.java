@@ -0,0 +1,248 @@
+package net.thenextlvl.worlds.io;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@NullMarked
+public class FileCopier {
+    private static final boolean REFLINK_SUPPORTED = System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("linux");
+    private static final Set<String> REPLACED_ATOMICALLY = Set.of("level.dat", "level.dat_old");
+    private static final Set<String> EXCLUDED = Set.of(
+            "advancements", "datapacks", "playerdata", "session.lock", "stats", "uid.dat"
+    );
+    private static final int BATCH_SIZE = 128;
+
+    private final Executor executor;
+
+    public FileCopier(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Filters the files of a level directory that belong to the level itself,
+     * excluding player data, datapacks, the session lock and the world uid.
+     */
+    public static boolean isLevelFile(Path relative) {
+        return relative.getNameCount() > 1 || !EXCLUDED.contains(relative.toString());
+    }
+
+    public Job copy(Path source, Path destination, Predicate<Path> filter) {
+        return copy(source, destination, filter, Mode.COPY);
+    }
+
+    public Job copy(Path source, Path destination, Predicate<Path> filter, Mode mode) {
+        var job = new Job();
+        var reflink = new AtomicBoolean(mode == Mode.INSTANT && REFLINK_SUPPORTED);
+        CompletableFuture.supplyAsync(() -> list(source, filter), executor).thenCompose(files -> {
+            job.totalFiles = files.size();
+            job.totalBytes = files.stream().mapToLong(FileEntry::size).sum();
+            var copies = mode == Mode.INSTANT
+                    ? batches(files).stream().map(batch -> CompletableFuture.runAsync(() ->
+                    link(batch, destination, reflink, job), executor))
+                    : files.stream().map(file -> CompletableFuture.runAsync(() ->
+                    copy(file, destination.resolve(file.relative()), job), executor));
+            return CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new));
+        }).whenComplete((ignored, throwable) -> {
+            if (throwable != null) job.future.completeExceptionally(throwable);
+            else job.future.complete(job.copiedBytes.get());
+        });
+        return job;
+    }
+
+    private List<FileEntry> list(Path source, Predicate<Path> filter) {
+        try {
+            var files = new ArrayList<FileEntry>();
+            Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    if (dir.equals(source)) return FileVisitResult.CONTINUE;
+                    return filter.test(source.relativize(dir)) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    var relative = source.relativize(file);
+                    if (attributes.isRegularFile() && filter.test(relative))
+                        files.add(new FileEntry(file, relative, attributes.size()));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list files of " + source, e);
+        }
+    }
+
+    private List<List<FileEntry>> batches(List<FileEntry> files) {
+        var batches = new ArrayList<List<FileEntry>>();
+        files.stream().collect(Collectors.groupingBy(file -> file.path().getParent()))
+                .values().forEach(group -> {
+                    for (var i = 0; i < group.size(); i += BATCH_SIZE)
+                        batches.add(group.subList(i, Math.min(group.size(), i + BATCH_SIZE)));
+                });
+        return batches;
+    }
+
+    private void link(List<FileEntry> batch, Path destination, AtomicBoolean reflink, Job job) {
+        var directory = destination.resolve(batch.getFirst().relative()).getParent();
+        createDirectories(directory);
+        var cloned = reflink.get() && reflink(batch, directory);
+        if (!cloned) reflink.set(false);
+        batch.forEach(file -> {
+            var target = directory.resolve(file.path().getFileName());
+            if (cloned && isComplete(file, target)) complete(file, job);
+            else if (REPLACED_ATOMICALLY.contains(file.relative().toString()) && hardLink(file, target))
+                complete(file, job);
+            else copy(file, target, job);
+        });
+    }
+
+    /**
+     * Creates copy-on-write clones of the given files using {@code cp --reflink=always}.
+     * Shared extents are only split by the filesystem once either side is written,
+     * which makes this safe for region files that the server modifies in place.
+     */
+    private boolean reflink(List<FileEntry> batch, Path directory) {
+        var command = new ArrayList<String>(List.of("cp", "--reflink=always", "-t", directory.toString(), "--"));
+        batch.forEach(file -> command.add(file.path().toString()));
+        try {
+            var process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor() == 0) return true;
+        } catch (IOException ignored) {
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Hard links are only used for files that the server replaces by renaming a temporary file,
+     * any other file would be modified in the source world as well.
+     */
+    private boolean hardLink(FileEntry file, Path target) {
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, file.path());
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private boolean isComplete(FileEntry file, Path target) {
+        try {
+            return Files.size(target) == file.size();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void copy(FileEntry file, Path target, Job job) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replace " + target, e);
+        }
+        copy(file, target);
+        complete(file, job);
+    }
+
+    private void complete(FileEntry file, Job job) {
+        job.copiedBytes.addAndGet(file.size());
+        job.copiedFiles.incrementAndGet();
+    }
+
+    private void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create directory " + directory, e);
+        }
+    }
+
+    private void copy(FileEntry file, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            try (var in = FileChannel.open(file.path(), READ);
+                 var out = FileChannel.open(target, CREATE_NEW, WRITE)) {
+                var position = 0L;
+                while (position < file.size()) {
+                    var transferred = in.transferTo(position, file.size() - position, out);
+                    if (transferred <= 0) throw new IOException("Source shrank while copying");
+                    position += transferred;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + file.path() + " to " + target, e);
+        }
+    }
+
+    private record FileEntry(Path path, Path relative, long size) {
+    }
+
+    public enum Mode {
+        /**
+         * Copies every file byte by byte.
+         */
+        COPY,
+        /**
+         * Clones files using copy-on-write reflinks where the filesystem supports them,
+         * hard links files that are only ever replaced atomically and copies everything else.
+         */
+        INSTANT
+    }
+
+    public static class Job {
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final AtomicInteger copiedFiles = new AtomicInteger();
+        private final AtomicLong copiedBytes = new AtomicLong();
+        private volatile int totalFiles = -1;
+        private volatile long totalBytes = -1;
+
+        public CompletableFuture<Long> future() {
+            return future;
+        }
+
+        public int copiedFiles() {
+            return copiedFiles.get();
+        }
+
+        public long copiedBytes() {
+            return copiedBytes.get();
+        }
+
+        public int totalFiles() {
+            return totalFiles;
+        }
+
+        public long totalBytes() {
+            return totalBytes;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package net.thenextlvl.worlds.io;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+@NullMarked
+public final class LevelPaths {
+    private LevelPaths() {
+    }
+
+    /**
+     * Resolves a level directory from a user supplied name.
+     *
+     * @return the absolute level directory, or empty if the name is not a plain directory name
+     * that stays directly inside the container
+     */
+    public static Optional<Path> resolve(Path container, String name) {
+        if (name.isBlank() || name.contains("/") || name.contains("\\")) return Optional.empty();
+        var directory = container.toAbsolutePath().normalize();
+        var level = directory.resolve(name).normalize();
+        return directory.equals(level.getParent()) ? Optional.of(level) : Optional.empty();
+    }
+
+    public static boolean isInside(Path container, Path level) {
+        return container.toAbsolutePath().normalize().equals(level.toAbsolutePath().normalize().getParent());
+    }
+}
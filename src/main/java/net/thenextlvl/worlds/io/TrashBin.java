@@ -0,0 +1,187 @@
+package net.thenextlvl.worlds.io;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/**
+ * Deletes directories by atomically moving them into the trash and purging them in the background,
+ * once the configured retention window has passed.
+ */
+@NullMarked
+public class TrashBin {
+    private static final int BATCH_SIZE = 256;
+
+    private final Set<Path> fallbacks = ConcurrentHashMap.newKeySet();
+    private final Set<Path> purging = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final WorldsPlugin plugin;
+    private final Path directory;
+
+    private @Nullable ScheduledTask sweeper;
+
+    public TrashBin(WorldsPlugin plugin) {
+        this.directory = plugin.getDataFolder().toPath().resolve("trash");
+        this.plugin = plugin;
+    }
+
+    /**
+     * Moves the given directory into the trash.
+     * <p>
+     * If the trash is located on a different filesystem, the directory is renamed in place instead
+     * and purged immediately, since it cannot be moved without copying it.
+     * Such directories are swept along with the trash, so failed purges are retried.
+     *
+     * @param source the directory to delete
+     * @throws IOException if the directory could not be moved
+     */
+    public void trash(Path source) throws IOException {
+        var name = System.currentTimeMillis() + "_" + sequence.getAndIncrement() + "_" + source.getFileName();
+        try {
+            Files.createDirectories(directory);
+            var target = directory.resolve(name);
+            Files.move(source, target, ATOMIC_MOVE);
+            if (plugin.settings().trashRetention().isZero()) purge(target);
+        } catch (AtomicMoveNotSupportedException e) {
+            var target = source.toAbsolutePath().normalize().resolveSibling("." + name + ".trash");
+            Files.move(source, target, ATOMIC_MOVE);
+            fallbacks.add(target.getParent());
+            purge(target);
+        }
+    }
+
+    public void start() {
+        plugin.ioExecutor().execute(this::sweep);
+        var retention = plugin.settings().trashRetention();
+        var period = Math.clamp(retention.toSeconds() * 20 / 4, 1200, 72000);
+        sweeper = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin,
+                task -> plugin.ioExecutor().execute(this::sweep), period, period);
+    }
+
+    public void stop() {
+        if (sweeper != null) sweeper.cancel();
+        sweeper = null;
+    }
+
+    private void sweep() {
+        var deadline = System.currentTimeMillis() - plugin.settings().trashRetention().toMillis();
+        sweep(directory, entry -> trashedAt(entry) <= deadline);
+
+        var containers = new HashSet<>(fallbacks);
+        containers.add(plugin.getServer().getWorldContainer().toPath().toAbsolutePath().normalize());
+        containers.forEach(container -> sweep(container, TrashBin::isFallback));
+    }
+
+    private void sweep(Path container, Predicate<Path> filter) {
+        if (!Files.isDirectory(container)) return;
+        try (var entries = Files.list(container)) {
+            entries.filter(filter).forEach(this::purge);
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to list the trash in {}", container, e);
+        }
+    }
+
+    private static boolean isFallback(Path entry) {
+        var name = entry.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(".trash") && Files.isDirectory(entry);
+    }
+
+    private long trashedAt(Path entry) {
+        var name = entry.getFileName().toString();
+        var separator = name.indexOf('_');
+        try {
+            return separator > 0 ? Long.parseLong(name.substring(0, separator)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the given directory by removing its files in parallel batches on the IO executor,
+     * followed by the directories from the deepest up.
+     * Entries that fail to purge stay in the trash and are retried on the next sweep.
+     */
+    private CompletableFuture<@Nullable Void> purge(Path entry) {
+        if (!purging.add(entry)) return CompletableFuture.completedFuture(null);
+        var started = System.nanoTime();
+        var failures = new AtomicInteger();
+        var failure = new AtomicReference<@Nullable IOException>();
+        return CompletableFuture.supplyAsync(() -> walk(entry), plugin.ioExecutor()).thenCompose(tree -> {
+            var batches = new ArrayList<CompletableFuture<Void>>();
+            for (var i = 0; i < tree.files().size(); i += BATCH_SIZE) {
+                var batch = tree.files().subList(i, Math.min(tree.files().size(), i + BATCH_SIZE));
+                batches.add(CompletableFuture.runAsync(() -> batch.forEach(file ->
+                        delete(file, failures, failure)), plugin.ioExecutor()));
+            }
+            return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+                tree.directories().forEach(directory -> delete(directory, failures, failure));
+                return tree;
+            }, plugin.ioExecutor());
+        }).handle((tree, throwable) -> {
+            purging.remove(entry);
+            if (throwable != null) plugin.getComponentLogger().error("Failed to purge {}", entry, throwable);
+            else if (failures.get() > 0) plugin.getComponentLogger().error("Failed to purge {} of {} files from {}",
+                    failures.get(), tree.files().size() + tree.directories().size(), entry, failure.get());
+            else plugin.getComponentLogger().info("Purged {} ({} files) in {}ms", entry.getFileName(),
+                    tree.files().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return null;
+        });
+    }
+
+    private void delete(Path path, AtomicInteger failures, AtomicReference<@Nullable IOException> failure) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private Tree walk(Path entry) {
+        var files = new ArrayList<Path>();
+        var directories = new ArrayList<Path>();
+        try {
+            Files.walkFileTree(entry, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    files.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, @Nullable IOException exception) {
+                    directories.add(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + entry, e);
+        }
+        return new Tree(files, directories);
+    }
+
+    private record Tree(List<Path> files, List<Path> directories) {
+    }
+}
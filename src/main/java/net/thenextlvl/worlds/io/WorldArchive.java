@@ -0,0 +1,370 @@
+package net.thenextlvl.worlds.io;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes and extracts zip archives of level directories.
+ * <p>
+ * Region files are already compressed per chunk and stored as they are, every other file is streamed
+ * through a deflater straight into the archive, so no file is ever held in memory or copied to disk twice.
+ * Extraction inflates all entries in parallel straight into the destination directory.
+ */
+@NullMarked
+public class WorldArchive {
+    public static final String EXTENSION = ".zip";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Executor executor;
+
+    public WorldArchive(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Archives the level directory into the given file, using the name of the level directory as root entry.
+     * The archive is written next to the target and only replaces it once complete.
+     *
+     * @return a future completing with the size of the archive
+     */
+    public CompletableFuture<Long> export(Path level, Path archive, Predicate<Path> filter) {
+        var partial = archive.resolveSibling(archive.getFileName() + ".part");
+        var root = level.getFileName().toString() + "/";
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(archive.getParent());
+                return new ZipWriter(FileChannel.open(partial, CREATE, TRUNCATE_EXISTING, WRITE));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create archive " + partial, e);
+            }
+        }, executor).thenCompose(writer -> CompletableFuture.supplyAsync(() -> list(level, filter), executor)
+                .thenCompose(files -> CompletableFuture.allOf(files.stream()
+                        .map(file -> CompletableFuture.runAsync(() -> writer.write(file,
+                                root + separators(level.relativize(file))), executor))
+                        .toArray(CompletableFuture[]::new)))
+                .handle((ignored, throwable) -> {
+                    try {
+                        writer.close();
+                        if (throwable == null) {
+                            Files.move(partial, archive, StandardCopyOption.REPLACE_EXISTING,
+                                    StandardCopyOption.ATOMIC_MOVE);
+                            return Files.size(archive);
+                        }
+                    } catch (IOException e) {
+                        deleteQuietly(partial);
+                        throw new UncheckedIOException("Failed to finish archive " + archive, e);
+                    }
+                    deleteQuietly(partial);
+                    throw throwable instanceof CompletionException e ? e : new CompletionException(throwable);
+                }));
+    }
+
+    /**
+     * Extracts the archive into the given directory, which must not exist yet.
+     * If all entries share a single root directory, it is stripped.
+     *
+     * @return a future completing with the destination once every entry was extracted
+     */
+    public CompletableFuture<Path> extract(Path archive, Path destination) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectory(destination);
+                return new ZipFile(archive.toFile(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open archive " + archive, e);
+            }
+        }, executor).thenCompose(zip -> {
+            var entries = Collections.list(zip.entries()).stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .toList();
+            var root = commonRoot(entries);
+            return CompletableFuture.allOf(entries.stream().map(entry -> CompletableFuture.runAsync(() ->
+                    extract(zip, entry, destination, root.length()), executor)
+            ).toArray(CompletableFuture[]::new)).whenComplete((ignored, throwable) -> closeQuietly(zip));
+        }).thenApply(ignored -> destination);
+    }
+
+    private void extract(ZipFile zip, ZipEntry entry, Path destination, int root) {
+        var directory = destination.toAbsolutePath().normalize();
+        var target = directory.resolve(entry.getName().substring(root)).normalize();
+        try {
+            if (!target.startsWith(directory) || target.equals(directory))
+                throw new IOException("Entry " + entry.getName() + " is outside of the destination");
+            Files.createDirectories(target.getParent());
+            try (var in = zip.getInputStream(entry)) {
+                Files.copy(in, target);
+            }
+            var modified = entry.getLastModifiedTime();
+            if (modified != null) Files.setLastModifiedTime(target, modified);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to extract " + entry.getName(), e);
+        }
+    }
+
+    private String commonRoot(List<ZipEntry> entries) {
+        if (entries.isEmpty()) return "";
+        var first = entries.getFirst().getName();
+        var index = first.indexOf('/');
+        if (index <= 0) return "";
+        var root = first.substring(0, index + 1);
+        return entries.stream().allMatch(entry -> entry.getName().startsWith(root)) ? root : "";
+    }
+
+    private List<Path> list(Path level, Predicate<Path> filter) {
+        try (var files = Files.walk(level)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> Stream.iterate(level.relativize(file), Objects::nonNull, Path::getParent)
+                            .allMatch(filter))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list files of " + level, e);
+        }
+    }
+
+    private static String separators(Path relative) {
+        return relative.toString().replace(relative.getFileSystem().getSeparator(), "/");
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Appends entries in completion order and writes the central directory on close,
+     * switching to zip64 records once offsets or the entry count exceed the classic limits.
+     * <p>
+     * Stored entries have a known size, so their space is reserved up front and filled in parallel.
+     * Deflated entries are written at the end of the archive while holding it, since their size is only known
+     * once done, which is fine for the small files that remain after region files are stored.
+     * In both cases the local header is rewritten with the final checksum and sizes afterward.
+     */
+    private static class ZipWriter implements Closeable {
+        private static final long LIMIT = 0xFFFFFFFFL;
+        private static final int FLAG_UTF8 = 0x0800;
+
+        private final List<Header> headers = new ArrayList<>();
+        private final FileChannel channel;
+        private long position;
+
+        private ZipWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void write(Path file, String entry) {
+            try {
+                var name = entry.getBytes(StandardCharsets.UTF_8);
+                var time = dosTime(Files.getLastModifiedTime(file).toMillis());
+                var size = Files.size(file);
+                if (isCompressed(entry)) store(file, name, time, size);
+                else deflate(file, name, time, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write " + entry, e);
+            }
+        }
+
+        private void store(Path file, byte[] name, int time, long size) throws IOException {
+            var zip64 = size >= LIMIT;
+            var length = local(name, ZipEntry.STORED, time, 0, size, size, zip64).remaining();
+            long offset;
+            synchronized (this) {
+                offset = position;
+                position += length + size;
+            }
+            var crc = new CRC32();
+            try (var source = FileChannel.open(file, READ)) {
+                var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                var copied = 0L;
+                while (copied < size) {
+                    buffer.clear().limit((int) Math.min(BUFFER_SIZE, size - copied));
+                    if (source.read(buffer) < 0) throw new IOException("Unexpected end of " + file);
+                    crc.update(buffer.flip());
+                    buffer.rewind();
+                    while (buffer.hasRemaining()) copied += channel.write(buffer, offset + length + copied);
+                }
+            }
+            write(local(name, ZipEntry.STORED, time, crc.getValue(), size, size, zip64), offset);
+            synchronized (this) {
+                headers.add(new Header(name, ZipEntry.STORED, time, crc.getValue(), size, size, offset));
+            }
+        }
+
+        private synchronized void deflate(Path file, byte[] name, int time, long size) throws IOException {
+            var zip64 = size >= Integer.MAX_VALUE;
+            var offset = position;
+            write(local(name, ZipEntry.DEFLATED, time, 0, 0, 0, zip64));
+            var start = position;
+
+            var crc = new CRC32();
+            var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            long read;
+            try (var in = new CheckedInputStream(Files.newInputStream(file), crc);
+                 var out = new DeflaterOutputStream(new Output(), deflater, BUFFER_SIZE)) {
+                read = in.transferTo(out);
+            } finally {
+                deflater.end();
+            }
+
+            var compressed = position - start;
+            if (!zip64 && (read >= LIMIT || compressed >= LIMIT))
+                throw new IOException("File grew past the size of a classic entry");
+            write(local(name, ZipEntry.DEFLATED, time, crc.getValue(), compressed, read, zip64), offset);
+            headers.add(new Header(name, ZipEntry.DEFLATED, time, crc.getValue(), compressed, read, offset));
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            try (channel) {
+                var start = position;
+                for (var header : headers) write(header.central());
+                var size = position - start;
+                var zip64 = headers.size() >= 0xFFFF || start >= LIMIT || size >= LIMIT;
+                if (zip64) {
+                    var record = position;
+                    write(ByteBuffer.allocate(56).order(ByteOrder.LITTLE_ENDIAN)
+                            .putInt(0x06064b50).putLong(44)
+                            .putShort((short) 45).putShort((short) 45)
+                            .putInt(0).putInt(0)
+                            .putLong(headers.size()).putLong(headers.size())
+                            .putLong(size).putLong(start)
+                            .flip());
+                    write(ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN)
+                            .putInt(0x07064b50).putInt(0).putLong(record).putInt(1)
+                            .flip());
+                }
+                var count = (short) Math.min(headers.size(), 0xFFFF);
+                write(ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(0x06054b50).putShort((short) 0).putShort((short) 0)
+                        .putShort(count).putShort(count)
+                        .putInt((int) Math.min(size, LIMIT)).putInt((int) Math.min(start, LIMIT))
+                        .putShort((short) 0)
+                        .flip());
+            }
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) position += channel.write(buffer, position);
+        }
+
+        private void write(ByteBuffer buffer, long offset) throws IOException {
+            while (buffer.hasRemaining()) offset += channel.write(buffer, offset);
+        }
+
+        /**
+         * Region and external chunk files hold chunks that are compressed individually already.
+         */
+        private static boolean isCompressed(String name) {
+            return name.endsWith(".mca") || name.endsWith(".mcc");
+        }
+
+        private static ByteBuffer local(byte[] name, int method, int time, long crc,
+                                        long compressed, long size, boolean zip64) {
+            var header = ByteBuffer.allocate(30 + name.length + (zip64 ? 20 : 0)).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0x04034b50)
+                    .putShort((short) (zip64 ? 45 : 20))
+                    .putShort((short) FLAG_UTF8)
+                    .putShort((short) method)
+                    .putInt(time)
+                    .putInt((int) crc)
+                    .putInt((int) (zip64 ? LIMIT : compressed))
+                    .putInt((int) (zip64 ? LIMIT : size))
+                    .putShort((short) name.length)
+                    .putShort((short) (zip64 ? 20 : 0))
+                    .put(name);
+            if (zip64) header.putShort((short) 0x0001).putShort((short) 16).putLong(size).putLong(compressed);
+            return header.flip();
+        }
+
+        private static int dosTime(long millis) {
+            var time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+            if (time.getYear() < 1980) return (1 << 21) | (1 << 16);
+            return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+                   | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+        }
+
+        /**
+         * Appends everything written to the end of the archive, closing it is left to the writer.
+         */
+        private class Output extends OutputStream {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                ZipWriter.this.write(ByteBuffer.wrap(bytes, offset, length));
+            }
+        }
+
+        private record Header(byte[] name, int method, int time, long crc, long compressed, long size, long offset) {
+            private ByteBuffer central() {
+                var zip64 = offset >= LIMIT || size >= LIMIT || compressed >= LIMIT;
+                var buffer = ByteBuffer.allocate(46 + name.length + (zip64 ? 28 : 0)).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(0x02014b50)
+                        .putShort((short) 45)
+                        .putShort((short) (zip64 ? 45 : 20))
+                        .putShort((short) FLAG_UTF8)
+                        .putShort((short) method)
+                        .putInt(time)
+                        .putInt((int) crc)
+                        .putInt((int) (zip64 ? LIMIT : compressed))
+                        .putInt((int) (zip64 ? LIMIT : size))
+                        .putShort((short) name.length)
+                        .putShort((short) (zip64 ? 28 : 0))
+                        .putShort((short) 0)
+                        .putShort((short) 0)
+                        .putShort((short) 0)
+                        .putInt(0)
+                        .putInt((int) (zip64 ? LIMIT : offset))
+                        .put(name);
+                if (zip64) buffer.putShort((short) 0x0001).putShort((short) 24)
+                        .putLong(size).putLong(compressed).putLong(offset);
+                return buffer.flip();
+            }
+        }
+    }
+}
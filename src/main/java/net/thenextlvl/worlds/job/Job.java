@@ -0,0 +1,17 @@
+package net.thenextlvl.worlds.job;
+
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+public record Job(Type type, String path, long scheduled) {
+    public enum Type {
+        /**
+         * Moves the level directory into the trash.
+         */
+        DELETE,
+        /**
+         * Moves all generated data of the level into the trash, keeping level.dat and the world uid.
+         */
+        REGENERATE
+    }
+}
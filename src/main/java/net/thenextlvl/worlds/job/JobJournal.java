@@ -0,0 +1,134 @@
+package net.thenextlvl.worlds.job;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import core.file.format.GsonFile;
+import core.io.IO;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records jobs that can only run while a level is not loaded,
+ * and executes them during the next startup before any level is loaded.
+ */
+@NullMarked
+public class JobJournal {
+    private static final List<String> GENERATED = List.of(
+            "DIM-1", "DIM1", "advancements", "data", "entities", "playerdata", "poi", "region", "stats"
+    );
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final List<Job> jobs = new ArrayList<>();
+    private final GsonFile<JsonObject> file;
+    private final WorldsPlugin plugin;
+
+    public JobJournal(WorldsPlugin plugin) {
+        this.file = new GsonFile<>(IO.of(plugin.getDataFolder(), "jobs.json"), new JsonObject(), gson);
+        this.plugin = plugin;
+    }
+
+    public synchronized void schedule(Job.Type type, Path level) {
+        var path = level.toAbsolutePath().normalize().toString();
+        if (jobs.stream().anyMatch(job -> job.type().equals(type) && job.path().equals(path))) return;
+        jobs.add(new Job(type, path, System.currentTimeMillis()));
+        save();
+    }
+
+    public void execute(Job.Type type, Path level) throws IOException {
+        if (!Files.isDirectory(level)) return;
+        switch (type) {
+            case DELETE -> plugin.trashBin().trash(level);
+            case REGENERATE -> {
+                for (var name : GENERATED) {
+                    var generated = level.resolve(name);
+                    if (Files.exists(generated)) plugin.trashBin().trash(generated);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes all recorded jobs, blocking until they are done.
+     * Jobs of the same level run in the order they were scheduled, different levels are processed in parallel.
+     * Failed jobs stay in the journal and are retried on the next startup.
+     */
+    public synchronized void run() {
+        load();
+        if (jobs.isEmpty()) return;
+
+        var started = System.nanoTime();
+        var levels = new LinkedHashMap<String, List<Job>>();
+        jobs.forEach(job -> levels.computeIfAbsent(job.path(), ignored -> new ArrayList<>()).add(job));
+
+        var failed = levels.values().stream()
+                .map(queue -> CompletableFuture.supplyAsync(() -> run(queue), plugin.ioExecutor()))
+                .toList().stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+
+        plugin.getComponentLogger().info("Executed {} of {} scheduled jobs in {}ms",
+                jobs.size() - failed.size(), jobs.size(), millis(System.nanoTime() - started));
+
+        jobs.clear();
+        jobs.addAll(failed);
+        save();
+    }
+
+    private List<Job> run(List<Job> queue) {
+        var failed = new ArrayList<Job>();
+        for (var job : queue) {
+            var started = System.nanoTime();
+            try {
+                execute(job.type(), Path.of(job.path()));
+                plugin.getComponentLogger().info("Executed scheduled {} of {} in {}ms",
+                        job.type().name().toLowerCase(Locale.ROOT), job.path(), millis(System.nanoTime() - started));
+            } catch (IOException | UncheckedIOException e) {
+                plugin.getComponentLogger().error("Failed to execute scheduled {} of {}",
+                        job.type().name().toLowerCase(Locale.ROOT), job.path(), e);
+                failed.add(job);
+            }
+        }
+        return failed;
+    }
+
+    private void load() {
+        jobs.clear();
+        var array = file.getRoot().getAsJsonArray("jobs");
+        if (array != null) array.forEach(element -> {
+            try {
+                var job = gson.fromJson(element, Job.class);
+                if (job.type() == null || job.path() == null) throw new JsonParseException("Incomplete job");
+                jobs.add(job);
+            } catch (JsonParseException e) {
+                plugin.getComponentLogger().warn("Dropping malformed job {}", element);
+            }
+        });
+    }
+
+    private void save() {
+        var array = new JsonArray();
+        jobs.forEach(job -> array.add(gson.toJsonTree(job)));
+        file.getRoot().add("jobs", array);
+        file.save();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -2,39 +2,67 @@ package net.thenextlvl.worlds.listener;
 
 import io.papermc.paper.event.entity.EntityPortalReadyEvent;
 import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.model.EndPlatform;
 import net.thenextlvl.worlds.model.PortalCooldown;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.PortalType;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
+import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityPortalEnterEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.jspecify.annotations.NullMarked;
 
-import java.util.stream.IntStream;
+import java.util.List;
 
 import static org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.END_PORTAL;
 
 @NullMarked
 public class PortalListener implements Listener {
-    private final PortalCooldown cooldown = new PortalCooldown();
+    private final EndPlatform platform;
+    private final PortalCooldown cooldown;
     private final WorldsPlugin plugin;
 
     public PortalListener(WorldsPlugin plugin) {
+        this.platform = new EndPlatform(plugin);
+        this.cooldown = new PortalCooldown(plugin);
         this.plugin = plugin;
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onEntityPortal(EntityPortalReadyEvent event) {
         if (event.getPortalType().equals(PortalType.CUSTOM)) return;
-        plugin.linkController().getTarget(event.getEntity().getWorld(), event.getPortalType())
-                .map(Bukkit::getWorld).ifPresentOrElse(event::setTargetWorld, () ->
-                        event.setTargetWorld(null));
+        var source = event.getEntity().getWorld();
+        var world = plugin.linkController().resolve(source, event.getPortalType());
+        if (world != null) {
+            event.setTargetWorld(world);
+            return;
+        }
+        var target = plugin.linkController().target(source, event.getPortalType());
+        if (target != null && plugin.loadController().isDormant(target)) {
+            event.setCancelled(true);
+            var entity = event.getEntity();
+            var type = event.getPortalType();
+            plugin.loadController().load(target).thenRun(() ->
+                    entity.getScheduler().run(plugin, task -> retry(entity, type), null));
+        } else event.setTargetWorld(null);
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -43,36 +71,104 @@ public class PortalListener implements Listener {
 
         event.setCancelled(true);
 
-        if (!cooldown.start(plugin, event.getEntity())) return;
+        if (!cooldown.start(event.getEntity())) return;
+        enterEndPortal(event.getEntity());
+    }
+
+    /**
+     * Sends the entity on once the dormant target of its portal is loaded,
+     * provided it is still standing in the portal.
+     */
+    private void retry(Entity entity, PortalType type) {
+        if (type.equals(PortalType.NETHER)) entity.setPortalCooldown(0);
+        else if (entity.getLocation().getBlock().getType().equals(Material.END_PORTAL)) enterEndPortal(entity);
+    }
 
-        var readyEvent = new EntityPortalReadyEvent(event.getEntity(), null, PortalType.ENDER);
+    private void enterEndPortal(Entity entity) {
+        var readyEvent = new EntityPortalReadyEvent(entity, null, PortalType.ENDER);
         onEntityPortal(readyEvent);
 
         if (readyEvent.getTargetWorld() == null) return;
 
         if (readyEvent.getTargetWorld().getEnvironment().equals(World.Environment.THE_END)) {
-            generateEndPlatform(readyEvent.getTargetWorld());
-            var spawn = new Location(readyEvent.getTargetWorld(), 100.5, 49, 0.5, 90, 0);
-            event.getEntity().teleportAsync(spawn, END_PORTAL);
-        } else if (event.getEntity() instanceof CraftPlayer player) {
+            var target = readyEvent.getTargetWorld();
+            platform.create(target).thenRun(() -> plugin.teleportAsync(entity, platform.spawn(target), END_PORTAL))
+                    .exceptionally(throwable -> {
+                        plugin.getComponentLogger().error("Failed to create the end platform in {}",
+                                target.getName(), throwable);
+                        return null;
+                    });
+        } else if (entity instanceof CraftPlayer player) {
             if (!player.getHandle().seenCredits) player.getHandle().showEndCredits();
             if (player.getRespawnLocation() != null) player.teleportAsync(player.getRespawnLocation(), END_PORTAL);
             else player.teleportAsync(readyEvent.getTargetWorld().getSpawnLocation(), END_PORTAL);
-        } else event.getEntity().teleport(readyEvent.getTargetWorld().getSpawnLocation(), END_PORTAL);
-    }
-
-    private void generateEndPlatform(World world) {
-        var platform = new Location(world, 100, 49, 0);
-        IntStream.rangeClosed(platform.getBlockX() - 2, platform.getBlockX() + 2).forEach(x ->
-                IntStream.rangeClosed(platform.getBlockZ() - 2, platform.getBlockZ() + 2).forEach(z -> {
-                    var platformBlock = platform.getWorld().getBlockAt(x, platform.getBlockY() - 1, z);
-                    if (!platformBlock.getType().equals(Material.OBSIDIAN))
-                        platformBlock.setType(Material.OBSIDIAN);
-                    IntStream.rangeClosed(1, 3).forEach(y -> {
-                        var block = platformBlock.getRelative(BlockFace.UP, y);
-                        if (!block.getType().equals(Material.AIR)) block.setType(Material.AIR);
-                    });
-                })
-        );
+        } else entity.teleportAsync(readyEvent.getTargetWorld().getSpawnLocation(), END_PORTAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        platform.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        platform.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        platform.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        platform.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFlow(BlockFromToEvent event) {
+        platform.invalidate(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        platform.invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        event.blockList().forEach(platform::invalidate);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        event.blockList().forEach(platform::invalidate);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        invalidateMoved(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        invalidateMoved(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        event.getBlocks().stream().map(BlockState::getBlock).forEach(platform::invalidate);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        platform.forget(event.getWorld());
+    }
+
+    private void invalidateMoved(List<Block> blocks, BlockFace direction) {
+        blocks.forEach(block -> {
+            platform.invalidate(block);
+            platform.invalidate(block.getRelative(direction));
+        });
     }
 }
@@ -0,0 +1,123 @@
+package net.thenextlvl.worlds.model;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the obsidian platform entities arrive on when entering the end.
+ * <p>
+ * Every chunk the platform overlaps is loaded asynchronously and handled on its owning region,
+ * all blocks of a chunk are checked in a single pass and only the differing ones are replaced.
+ * Worlds with an intact platform are remembered, which only lets the check bail out at the first differing block
+ * instead of collecting all of them, since blocks can also be changed through the API without any event.
+ */
+@NullMarked
+public class EndPlatform {
+    private static final int X = 100, Y = 49, Z = 0;
+    private static final int RADIUS = 2, HEIGHT = 3;
+
+    private final Set<World> intact = ConcurrentHashMap.newKeySet();
+    private final Plugin plugin;
+
+    public EndPlatform(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public Location spawn(World world) {
+        return new Location(world, X + 0.5, Y, Z + 0.5, 90, 0);
+    }
+
+    /**
+     * Makes sure the platform exists in the given world.
+     *
+     * @return a future completing once every part of the platform is intact
+     */
+    public CompletableFuture<Void> create(World world) {
+        var parts = new ArrayList<CompletableFuture<?>>();
+        for (var chunkZ = (Z - RADIUS) >> 4; chunkZ <= (Z + RADIUS) >> 4; chunkZ++) {
+            for (var chunkX = (X - RADIUS) >> 4; chunkX <= (X + RADIUS) >> 4; chunkX++) {
+                var x = chunkX;
+                var z = chunkZ;
+                parts.add(world.getChunkAtAsync(x, z).thenRunAsync(() -> ensure(world, x, z), task ->
+                        plugin.getServer().getRegionScheduler().execute(plugin, world, x, z, task)));
+            }
+        }
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenRun(() -> intact.add(world));
+    }
+
+    /**
+     * Forgets that the platform is intact if the block is part of it.
+     */
+    public void invalidate(Block block) {
+        if (!intact.contains(block.getWorld())) return;
+        if (Math.abs(block.getX() - X) > RADIUS || Math.abs(block.getZ() - Z) > RADIUS) return;
+        if (block.getY() < Y - 1 || block.getY() > Y + HEIGHT - 1) return;
+        intact.remove(block.getWorld());
+    }
+
+    public void forget(World world) {
+        intact.remove(world);
+    }
+
+    private void ensure(World world, int chunkX, int chunkZ) {
+        if (intact.contains(world) && isIntact(world, chunkX, chunkZ)) return;
+        build(world, chunkX, chunkZ);
+    }
+
+    private boolean isIntact(World world, int chunkX, int chunkZ) {
+        for (var x = minX(chunkX); x <= maxX(chunkX); x++) {
+            for (var z = minZ(chunkZ); z <= maxZ(chunkZ); z++) {
+                if (world.getBlockAt(x, Y - 1, z).getType() != Material.OBSIDIAN) return false;
+                for (var y = Y; y < Y + HEIGHT; y++) if (!world.getBlockAt(x, y, z).getType().isAir()) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects all blocks of the chunk that differ from the platform first and replaces them afterward
+     * without physics, so a partially broken platform doesn't cause an update cascade per replaced block.
+     */
+    private void build(World world, int chunkX, int chunkZ) {
+        var air = new ArrayList<Block>();
+        var floor = new ArrayList<Block>();
+        for (var x = minX(chunkX); x <= maxX(chunkX); x++) {
+            for (var z = minZ(chunkZ); z <= maxZ(chunkZ); z++) {
+                var block = world.getBlockAt(x, Y - 1, z);
+                if (block.getType() != Material.OBSIDIAN) floor.add(block);
+                for (var y = Y; y < Y + HEIGHT; y++) {
+                    var above = world.getBlockAt(x, y, z);
+                    if (!above.getType().isAir()) air.add(above);
+                }
+            }
+        }
+        floor.forEach(block -> block.setType(Material.OBSIDIAN, false));
+        air.forEach(block -> block.setType(Material.AIR, false));
+    }
+
+    private static int minX(int chunkX) {
+        return Math.max(X - RADIUS, chunkX << 4);
+    }
+
+    private static int maxX(int chunkX) {
+        return Math.min(X + RADIUS, (chunkX << 4) + 15);
+    }
+
+    private static int minZ(int chunkZ) {
+        return Math.max(Z - RADIUS, chunkZ << 4);
+    }
+
+    private static int maxZ(int chunkZ) {
+        return Math.min(Z + RADIUS, (chunkZ << 4) + 15);
+    }
+}
@@ -0,0 +1,80 @@
+package net.thenextlvl.worlds.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import core.file.format.GsonFile;
+import core.io.IO;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@NullMarked
+public class LevelIndex {
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final GsonFile<JsonObject> file;
+    private final WorldsPlugin plugin;
+
+    public LevelIndex(WorldsPlugin plugin) {
+        this.file = new GsonFile<>(IO.of(plugin.getDataFolder(), "levels.json"), new JsonObject(), gson);
+        this.plugin = plugin;
+        load();
+    }
+
+    public Optional<LevelMetadata> get(File level, World.Environment environment) {
+        var entry = entries.get(key(level));
+        if (entry == null || !entry.metadata().environment().equals(environment)) return Optional.empty();
+        var data = levelData(level);
+        if (entry.size() != data.length() || entry.modified() != data.lastModified()) return Optional.empty();
+        return Optional.of(entry.metadata());
+    }
+
+    public LevelMetadata put(File level, LevelMetadata metadata) {
+        var data = levelData(level);
+        if (data.isFile()) entries.put(key(level), new Entry(data.length(), data.lastModified(), metadata));
+        return metadata;
+    }
+
+    public void invalidate(File level) {
+        entries.remove(key(level));
+    }
+
+    public void save() {
+        var root = file.getRoot();
+        Set.copyOf(root.keySet()).forEach(root::remove);
+        entries.entrySet().stream()
+                .filter(entry -> new File(entry.getKey()).isDirectory())
+                .forEach(entry -> root.add(entry.getKey(), gson.toJsonTree(entry.getValue())));
+        file.save();
+    }
+
+    private void load() {
+        file.getRoot().entrySet().forEach(entry -> {
+            try {
+                entries.put(entry.getKey(), gson.fromJson(entry.getValue(), Entry.class));
+            } catch (JsonParseException e) {
+                plugin.getComponentLogger().warn("Dropping malformed level index entry {}", entry.getKey());
+            }
+        });
+    }
+
+    private File levelData(File level) {
+        var data = new File(level, "level.dat");
+        return data.isFile() ? data : new File(level, "level.dat_old");
+    }
+
+    private String key(File level) {
+        return level.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private record Entry(long size, long modified, LevelMetadata metadata) {
+    }
+}
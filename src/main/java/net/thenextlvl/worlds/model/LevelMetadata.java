@@ -0,0 +1,91 @@
+package net.thenextlvl.worlds.model;
+
+import com.google.gson.JsonObject;
+import core.nbt.tag.ByteTag;
+import core.nbt.tag.CompoundTag;
+import core.nbt.tag.LongTag;
+import core.nbt.tag.Tag;
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.model.Generator;
+import net.thenextlvl.worlds.api.model.LevelExtras;
+import net.thenextlvl.worlds.api.model.WorldPreset;
+import net.thenextlvl.worlds.api.preset.Preset;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+@NullMarked
+public record LevelMetadata(
+        World.Environment environment,
+        boolean imported,
+        @Nullable String key,
+        @Nullable String generator,
+        boolean enabled,
+        boolean lazy,
+        int priority,
+        int deferTicks,
+        @Nullable Boolean hardcore,
+        @Nullable Long seed,
+        @Nullable Boolean structures,
+        @Nullable String worldPreset,
+        @Nullable JsonObject preset
+) {
+    public Optional<LevelExtras> extras(WorldsPlugin plugin) {
+        if (!imported()) return Optional.empty();
+        return Optional.of(new LevelExtras(
+                key() != null ? NamespacedKey.fromString(key()) : null,
+                generator() != null ? Generator.deserialize(plugin, generator()) : null,
+                enabled(),
+                lazy(),
+                priority(),
+                deferTicks()
+        ));
+    }
+
+    public Optional<WorldPreset> type() {
+        return Optional.ofNullable(worldPreset()).map(Key::key).map(WorldPreset::new);
+    }
+
+    public Optional<Preset> flatPreset() {
+        return Optional.ofNullable(preset()).map(Preset::deserialize);
+    }
+
+    public static LevelMetadata read(WorldsPlugin plugin, CompoundTag root, World.Environment environment) {
+        var data = root.<CompoundTag>optional("Data");
+        var values = data.flatMap(tag -> tag.<CompoundTag>optional("BukkitValues"));
+
+        var key = values.flatMap(tag -> tag.optional("worlds:world_key")).map(Tag::getAsString);
+        var generator = values.flatMap(tag -> tag.optional("worlds:generator")).map(Tag::getAsString);
+        var enabled = values.flatMap(tag -> tag.optional("worlds:enabled")).map(Tag::getAsBoolean);
+        var lazy = values.flatMap(tag -> tag.optional("worlds:lazy")).map(Tag::getAsBoolean);
+        var priority = values.flatMap(tag -> tag.optional("worlds:priority")).map(Tag::getAsInt);
+        var defer = values.flatMap(tag -> tag.optional("worlds:defer")).map(Tag::getAsInt);
+        var imported = key.isPresent() || generator.isPresent() || enabled.isPresent();
+
+        var settings = data.flatMap(tag -> tag.<CompoundTag>optional("WorldGenSettings"));
+        var dimensions = settings.flatMap(tag -> tag.<CompoundTag>optional("dimensions"));
+        var dimension = dimensions.flatMap(tag -> tag.<CompoundTag>optional(
+                plugin.levelView().getDimension(tag, environment)));
+        var generatorTag = dimension.flatMap(tag -> tag.<CompoundTag>optional("generator"));
+
+        var worldPreset = generatorTag.flatMap(plugin.levelView()::getWorldPreset);
+        var preset = worldPreset.filter(type -> type.equals(WorldPreset.FLAT))
+                .flatMap(type -> generatorTag.flatMap(plugin.levelView()::getFlatPreset))
+                .map(Preset::serialize);
+
+        return new LevelMetadata(
+                environment, imported,
+                key.orElse(null), generator.orElse(null), enabled.orElse(false), lazy.orElse(false),
+                priority.orElse(0), defer.orElse(0),
+                settings.flatMap(tag -> tag.<ByteTag>optional("hardcore")).map(ByteTag::getAsBoolean).orElse(null),
+                settings.flatMap(tag -> tag.<LongTag>optional("seed")).map(LongTag::getAsLong).orElse(null),
+                settings.flatMap(tag -> tag.<ByteTag>optional("generate_features")).map(ByteTag::getAsBoolean).orElse(null),
+                worldPreset.map(WorldPreset::key).map(Key::asString).orElse(null),
+                preset.orElse(null)
+        );
+    }
+}
@@ -2,9 +2,7 @@ package net.thenextlvl.worlds.model;
 
 import com.google.gson.JsonObject;
 import core.nbt.file.NBTFile;
-import core.nbt.tag.ByteTag;
 import core.nbt.tag.CompoundTag;
-import core.nbt.tag.LongTag;
 import net.thenextlvl.worlds.WorldsPlugin;
 import net.thenextlvl.worlds.api.model.Generator;
 import net.thenextlvl.worlds.api.model.Level;
@@ -12,6 +10,7 @@ import net.thenextlvl.worlds.api.model.LevelBuilder;
 import net.thenextlvl.worlds.api.model.LevelExtras;
 import net.thenextlvl.worlds.api.model.WorldPreset;
 import net.thenextlvl.worlds.api.preset.Preset;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
@@ -19,14 +18,19 @@ import org.bukkit.WorldType;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 @NullMarked
 public class PaperLevel implements Level {
-    private final NBTFile<CompoundTag> levelData;
+    private final File level;
     private final WorldsPlugin plugin;
 
+    private @Nullable NBTFile<CompoundTag> levelData;
+
     private final NamespacedKey key;
     private final String name;
     private final World.Environment environment;
@@ -38,24 +42,31 @@ public class PaperLevel implements Level {
     private final boolean enabled;
     private final boolean hardcore;
     private final boolean importedBefore;
+    private final boolean lazy;
     private final boolean structures;
+    private final int deferTicks;
+    private final int priority;
     private final long seed;
 
     public PaperLevel(WorldsPlugin plugin, LevelBuilder builder) {
-        this.levelData = plugin.levelView().getLevelDataFile(builder.level());
+        this.level = builder.level();
         this.plugin = plugin;
 
         this.name = Optional.ofNullable(builder.name())
                 .orElseGet(() -> builder.level().getName());
 
-        var data = levelData().getRoot().<CompoundTag>optional("Data");
-        var extras = data.flatMap(plugin.levelView()::getExtras);
+        this.environment = Optional.ofNullable(builder.environment())
+                .orElseGet(() -> plugin.levelView().getEnvironment(builder.level()));
+
+        var metadata = plugin.levelIndex().get(level, environment).orElseGet(() ->
+                plugin.levelIndex().put(level, LevelMetadata.read(plugin, readLevelData(), environment)));
+        var extras = metadata.extras(plugin);
 
         this.importedBefore = extras.isPresent();
         this.enabled = extras.filter(LevelExtras::enabled).isPresent();
-
-        this.environment = Optional.ofNullable(builder.environment())
-                .orElseGet(() -> plugin.levelView().getEnvironment(builder.level()));
+        this.lazy = extras.filter(LevelExtras::lazy).isPresent();
+        this.priority = extras.map(LevelExtras::priority).orElse(0);
+        this.deferTicks = extras.map(LevelExtras::deferTicks).orElse(0);
 
         this.key = Optional.ofNullable(builder.key())
                 .or(() -> extras.map(LevelExtras::key))
@@ -66,32 +77,21 @@ public class PaperLevel implements Level {
                     return new NamespacedKey("worlds", namespace);
                 });
 
-        var settings = data.flatMap(tag -> tag.<CompoundTag>optional("WorldGenSettings"));
-        var dimensions = settings.flatMap(tag -> tag.<CompoundTag>optional("dimensions"));
-        var dimension = dimensions.flatMap(tag -> tag.<CompoundTag>optional(
-                plugin.levelView().getDimension(tag, environment)));
-        var generator = dimension.flatMap(tag -> tag.<CompoundTag>optional("generator"));
-
-
         this.hardcore = Optional.ofNullable(builder.hardcore())
-                .or(() -> settings.flatMap(tag -> tag.<ByteTag>optional("hardcore"))
-                        .map(ByteTag::getAsBoolean))
+                .or(() -> Optional.ofNullable(metadata.hardcore()))
                 .orElse(true);
         this.seed = Optional.ofNullable(builder.seed())
-                .or(() -> settings.flatMap(tag -> tag.<LongTag>optional("seed"))
-                        .map(LongTag::getAsLong))
+                .or(() -> Optional.ofNullable(metadata.seed()))
                 .orElse(ThreadLocalRandom.current().nextLong());
         this.structures = Optional.ofNullable(builder.structures())
-                .or(() -> settings.flatMap(tag -> tag.<ByteTag>optional("generate_features"))
-                        .map(ByteTag::getAsBoolean))
+                .or(() -> Optional.ofNullable(metadata.structures()))
                 .orElse(true);
 
-
-        var worldPreset = generator.flatMap(plugin.levelView()::getWorldPreset);
+        var worldPreset = metadata.type();
 
         this.preset = Optional.ofNullable(builder.preset())
                 .or(() -> worldPreset.filter(preset -> preset.equals(WorldPreset.FLAT))
-                        .flatMap(worldType -> generator.flatMap(plugin.levelView()::getFlatPreset)))
+                        .flatMap(worldType -> metadata.flatPreset()))
                 .orElse(null);
 
         this.type = Optional.ofNullable(builder.type()).orElseGet(() ->
@@ -102,6 +102,14 @@ public class PaperLevel implements Level {
                 .orElse(null);
     }
 
+    private CompoundTag readLevelData() {
+        try {
+            return plugin.levelView().readLevelData(level, "Data.BukkitValues", "Data.WorldGenSettings");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read level data of " + level.getName(), e);
+        }
+    }
+
     private WorldType typeOf(WorldPreset worldPreset) {
         if (worldPreset.equals(WorldPreset.AMPLIFIED)) return WorldType.AMPLIFIED;
         if (worldPreset.equals(WorldPreset.FLAT)) return WorldType.FLAT;
@@ -123,6 +131,7 @@ public class PaperLevel implements Level {
 
     @Override
     public NBTFile<CompoundTag> levelData() {
+        if (levelData == null) levelData = plugin.levelView().getLevelDataFile(level);
         return levelData;
     }
 
@@ -133,6 +142,11 @@ public class PaperLevel implements Level {
 
     @Override
     public Optional<World> create() {
+        if (plugin.loadController().isReserved(level)) {
+            plugin.getComponentLogger().warn("Cannot load {} while it is being rewritten", level.getName());
+            return Optional.empty();
+        }
+
         var generatorSettings = Optional.ofNullable(preset())
                 .map(Preset::serialize)
                 .map(JsonObject::toString)
@@ -149,7 +163,8 @@ public class PaperLevel implements Level {
         if (generator != null) creator.generator(generator.generator(creator.name()));
         if (generator != null) creator.biomeProvider(generator.biomeProvider(creator.name()));
 
-        return Optional.ofNullable(creator.createWorld());
+        return plugin.statisticsController().time(key(), LifecycleOperation.CREATE, () ->
+                Optional.ofNullable(creator.createWorld()));
     }
 
     @Override
@@ -182,11 +197,26 @@ public class PaperLevel implements Level {
         return importedBefore;
     }
 
+    @Override
+    public boolean lazy() {
+        return lazy;
+    }
+
     @Override
     public boolean structures() {
         return structures;
     }
 
+    @Override
+    public int deferTicks() {
+        return deferTicks;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
     @Override
     public long seed() {
         return seed;
@@ -0,0 +1,63 @@
+package net.thenextlvl.worlds.model;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import core.file.format.GsonFile;
+import core.io.IO;
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+
+@NullMarked
+public class PluginSettings {
+    private final GsonFile<JsonObject> file;
+    private final WorldsPlugin plugin;
+
+    private Duration trashRetention = Duration.ZERO;
+    private int pregenerationTargetMspt = 40;
+    private int pregenerationMaxConcurrency = 64;
+
+    public PluginSettings(WorldsPlugin plugin) {
+        this.file = new GsonFile<>(IO.of(plugin.getDataFolder(), "settings.json"), new JsonObject(),
+                new GsonBuilder().setPrettyPrinting().create());
+        this.plugin = plugin;
+    }
+
+    /**
+     * The time deleted worlds are kept in the trash before they are purged.
+     */
+    public Duration trashRetention() {
+        return trashRetention;
+    }
+
+    /**
+     * The tick duration pre-generation tries to stay below, in milliseconds.
+     */
+    public int pregenerationTargetMspt() {
+        return pregenerationTargetMspt;
+    }
+
+    /**
+     * The maximum number of chunk requests a single pre-generation keeps in flight.
+     */
+    public int pregenerationMaxConcurrency() {
+        return pregenerationMaxConcurrency;
+    }
+
+    public void load() {
+        trashRetention = Duration.ofMinutes(Math.max(0, getInt("trash-retention-minutes", 0)));
+        pregenerationTargetMspt = Math.max(1, getInt("pregeneration-target-mspt", 40));
+        pregenerationMaxConcurrency = Math.max(1, getInt("pregeneration-max-concurrency", 64));
+        file.save();
+    }
+
+    private int getInt(String name, int defaultValue) {
+        var element = file.getRoot().get(name);
+        if (element == null) file.getRoot().add(name, new JsonPrimitive(defaultValue));
+        else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isNumber()) return element.getAsInt();
+        else plugin.getComponentLogger().warn("Invalid setting {}, using the default {}", name, defaultValue);
+        return defaultValue;
+    }
+}
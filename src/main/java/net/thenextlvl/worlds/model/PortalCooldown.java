@@ -1,29 +1,75 @@
 package net.thenextlvl.worlds.model;
 
-import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 import org.jspecify.annotations.NullMarked;
-import org.jspecify.annotations.Nullable;
 
-import java.util.WeakHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Tracks which entities recently touched a portal.
+ * <p>
+ * Deadlines are kept per entity id in a concurrent map, so touching a portal is a single map update
+ * that is safe from any thread. Expiry is driven by a hashed timing wheel that is advanced once per tick:
+ * entities are only added to the wheel when their cooldown starts, entities that touched the portal again
+ * in the meantime are moved to the slot of their new deadline once their old slot comes up.
+ */
 @NullMarked
-public class PortalCooldown extends WeakHashMap<Entity, @Nullable ScheduledTask> {
+public class PortalCooldown {
+    private static final int COOLDOWN_TICKS = 10;
+    private static final int SLOTS = 16;
+
+    private final Map<UUID, Long> deadlines = new ConcurrentHashMap<>();
+    private final Queue<UUID>[] wheel;
+    private volatile long tick;
+
+    @SuppressWarnings("unchecked")
+    public PortalCooldown(Plugin plugin) {
+        this.wheel = new Queue[SLOTS];
+        for (var i = 0; i < SLOTS; i++) wheel[i] = new ConcurrentLinkedQueue<>();
+        plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> advance(), 1, 1);
+    }
+
     public boolean isActive(Entity entity) {
-        return containsKey(entity);
+        var deadline = deadlines.get(entity.getUniqueId());
+        return deadline != null && deadline > tick;
+    }
+
+    /**
+     * Starts or extends the cooldown of the entity.
+     *
+     * @return whether the cooldown was not active before
+     */
+    public boolean start(Entity entity) {
+        var now = tick;
+        var id = entity.getUniqueId();
+        var previous = deadlines.put(id, now + COOLDOWN_TICKS);
+        if (previous == null) schedule(id, now + COOLDOWN_TICKS);
+        return previous == null || previous <= now;
     }
 
-    public boolean start(Plugin plugin, Entity entity) {
-        var wasActive = isActive(entity);
-        cancel(entity);
-        put(entity, entity.getScheduler().runDelayed(plugin, task -> remove(entity), () -> remove(entity), 10));
-        return !wasActive;
+    private void advance() {
+        var now = tick + 1;
+        tick = now;
+        var slot = wheel[(int) (now & (SLOTS - 1))];
+        for (var remaining = slot.size(); remaining > 0; remaining--) {
+            var id = slot.poll();
+            if (id == null) break;
+            var deadline = deadlines.get(id);
+            if (deadline == null) continue;
+            if (deadline > now) schedule(id, deadline);
+            else if (!deadlines.remove(id, deadline)) {
+                var extended = deadlines.get(id);
+                if (extended != null) schedule(id, extended);
+            }
+        }
     }
 
-    private void cancel(Entity entity) {
-        var task = get(entity);
-        if (task != null) task.cancel();
-        remove(entity);
+    private void schedule(UUID id, long deadline) {
+        wheel[(int) (deadline & (SLOTS - 1))].add(id);
     }
 }
@@ -0,0 +1,81 @@
+package net.thenextlvl.worlds.model;
+
+import net.thenextlvl.worlds.WorldsPlugin;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the files of a loaded world consistent while they are read by a copy.
+ * <p>
+ * Freezing a world flushes its chunks and level data once, disables autosaving and holds every loaded chunk
+ * with a plugin chunk ticket, so neither autosaves nor chunk unloads write to the region files until the world
+ * is thawed again. Freezes are counted, overlapping copies of the same world only thaw it once the last one is done.
+ * <p>
+ * Freezing and thawing happens on the global region, chunk loads only read whether a world is frozen.
+ */
+@NullMarked
+public class SaveFreeze implements Listener {
+    private final Map<World, Frozen> frozen = new ConcurrentHashMap<>();
+    private final WorldsPlugin plugin;
+
+    public SaveFreeze(WorldsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void freeze(World world) {
+        var state = frozen.get(world);
+        if (state != null) {
+            frozen.put(world, state.hold());
+            return;
+        }
+        plugin.levelView().saveLevel(world, true);
+        plugin.levelView().saveLevelData(world, false);
+        frozen.put(world, new Frozen(world.isAutoSave(), 1));
+        world.setAutoSave(false);
+        for (var chunk : world.getLoadedChunks()) chunk.addPluginChunkTicket(plugin);
+    }
+
+    public void thaw(World world) {
+        var state = frozen.get(world);
+        if (state == null) return;
+        if (state.holders() > 1) {
+            frozen.put(world, state.release());
+            return;
+        }
+        frozen.remove(world);
+        world.removePluginChunkTickets(plugin);
+        world.setAutoSave(state.autoSave());
+    }
+
+    public boolean isFrozen(World world) {
+        return frozen.containsKey(world);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (isFrozen(event.getWorld())) event.getChunk().addPluginChunkTicket(plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        frozen.remove(event.getWorld());
+    }
+
+    private record Frozen(boolean autoSave, int holders) {
+        private Frozen hold() {
+            return new Frozen(autoSave, holders + 1);
+        }
+
+        private Frozen release() {
+            return new Frozen(autoSave, holders - 1);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package net.thenextlvl.worlds.nbt;
+
+import core.nbt.tag.ByteArrayTag;
+import core.nbt.tag.ByteTag;
+import core.nbt.tag.CompoundTag;
+import core.nbt.tag.DoubleTag;
+import core.nbt.tag.FloatTag;
+import core.nbt.tag.IntArrayTag;
+import core.nbt.tag.IntTag;
+import core.nbt.tag.ListTag;
+import core.nbt.tag.LongArrayTag;
+import core.nbt.tag.LongTag;
+import core.nbt.tag.ShortTag;
+import core.nbt.tag.StringTag;
+import core.nbt.tag.Tag;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads NBT data while only materializing the compound paths it was asked for.
+ * <p>
+ * Paths are dot separated compound names relative to the root tag, e.g. {@code Data.WorldGenSettings}.
+ * Everything that is neither on the way to nor inside a requested path is skipped without being allocated.
+ */
+@NullMarked
+public class FilteredNBTReader {
+    private static final int END = 0;
+    private static final int BYTE = 1;
+    private static final int SHORT = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int FLOAT = 5;
+    private static final int DOUBLE = 6;
+    private static final int BYTE_ARRAY = 7;
+    private static final int STRING = 8;
+    private static final int LIST = 9;
+    private static final int COMPOUND = 10;
+    private static final int INT_ARRAY = 11;
+    private static final int LONG_ARRAY = 12;
+
+    private static final int MAX_DEPTH = 512;
+
+    private final Set<String> paths;
+
+    public FilteredNBTReader(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    public FilteredNBTReader(String... paths) {
+        this(Set.of(paths));
+    }
+
+    public CompoundTag readCompressed(File file) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file.toPath()), 8192)))) {
+            return read(input);
+        }
+    }
+
+    public CompoundTag read(DataInputStream input) throws IOException {
+        var type = input.readUnsignedByte();
+        if (type != COMPOUND) throw new IOException("Root tag must be a compound, got " + type);
+        skipString(input);
+        return readCompound(input, "", 0);
+    }
+
+    private CompoundTag readCompound(DataInputStream input, String path, int depth) throws IOException {
+        if (depth > MAX_DEPTH) throw new IOException("Exceeded maximum depth of " + MAX_DEPTH);
+        var compound = new CompoundTag();
+        int type;
+        while ((type = input.readUnsignedByte()) != END) {
+            var name = input.readUTF();
+            var child = path.isEmpty() ? name : path + "." + name;
+            if (isRequested(child)) compound.add(name, readTag(input, type, depth + 1));
+            else if (type == COMPOUND && isParent(child)) compound.add(name, readCompound(input, child, depth + 1));
+            else skipTag(input, type, depth + 1);
+        }
+        return compound;
+    }
+
+    private boolean isRequested(String path) {
+        for (var requested : paths) {
+            if (path.equals(requested) || path.startsWith(requested + ".")) return true;
+        }
+        return false;
+    }
+
+    private boolean isParent(String path) {
+        for (var requested : paths) {
+            if (requested.startsWith(path + ".")) return true;
+        }
+        return false;
+    }
+
+    private Tag readTag(DataInputStream input, int type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) throw new IOException("Exceeded maximum depth of " + MAX_DEPTH);
+        return switch (type) {
+            case BYTE -> new ByteTag(input.readByte());
+            case SHORT -> new ShortTag(input.readShort());
+            case INT -> new IntTag(input.readInt());
+            case LONG -> new LongTag(input.readLong());
+            case FLOAT -> new FloatTag(input.readFloat());
+            case DOUBLE -> new DoubleTag(input.readDouble());
+            case BYTE_ARRAY -> {
+                var bytes = new byte[length(input)];
+                input.readFully(bytes);
+                yield new ByteArrayTag(bytes);
+            }
+            case STRING -> new StringTag(input.readUTF());
+            case LIST -> readList(input, depth);
+            case COMPOUND -> readFullCompound(input, depth);
+            case INT_ARRAY -> {
+                var ints = new int[length(input)];
+                for (var i = 0; i < ints.length; i++) ints[i] = input.readInt();
+                yield new IntArrayTag(ints);
+            }
+            case LONG_ARRAY -> {
+                var longs = new long[length(input)];
+                for (var i = 0; i < longs.length; i++) longs[i] = input.readLong();
+                yield new LongArrayTag(longs);
+            }
+            default -> throw new IOException("Unknown tag type " + type);
+        };
+    }
+
+    private CompoundTag readFullCompound(DataInputStream input, int depth) throws IOException {
+        var compound = new CompoundTag();
+        int type;
+        while ((type = input.readUnsignedByte()) != END) {
+            var name = input.readUTF();
+            compound.add(name, readTag(input, type, depth + 1));
+        }
+        return compound;
+    }
+
+    private ListTag<Tag> readList(DataInputStream input, int depth) throws IOException {
+        var contentType = input.readUnsignedByte();
+        var length = length(input);
+        var list = new ArrayList<Tag>(Math.min(length, 1024));
+        for (var i = 0; i < length; i++) list.add(readTag(input, contentType, depth + 1));
+        return new ListTag<>(list, contentType);
+    }
+
+    private void skipTag(DataInputStream input, int type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) throw new IOException("Exceeded maximum depth of " + MAX_DEPTH);
+        switch (type) {
+            case BYTE -> input.skipNBytes(1);
+            case SHORT -> input.skipNBytes(2);
+            case INT, FLOAT -> input.skipNBytes(4);
+            case LONG, DOUBLE -> input.skipNBytes(8);
+            case BYTE_ARRAY -> input.skipNBytes(length(input));
+            case STRING -> skipString(input);
+            case LIST -> {
+                var contentType = input.readUnsignedByte();
+                var length = length(input);
+                var fixed = fixedSize(contentType);
+                if (fixed >= 0) input.skipNBytes((long) fixed * length);
+                else for (var i = 0; i < length; i++) skipTag(input, contentType, depth + 1);
+            }
+            case COMPOUND -> {
+                int child;
+                while ((child = input.readUnsignedByte()) != END) {
+                    skipString(input);
+                    skipTag(input, child, depth + 1);
+                }
+            }
+            case INT_ARRAY -> input.skipNBytes(4L * length(input));
+            case LONG_ARRAY -> input.skipNBytes(8L * length(input));
+            default -> throw new IOException("Unknown tag type " + type);
+        }
+    }
+
+    private static int fixedSize(int type) {
+        return switch (type) {
+            case END -> 0;
+            case BYTE -> 1;
+            case SHORT -> 2;
+            case INT, FLOAT -> 4;
+            case LONG, DOUBLE -> 8;
+            default -> -1;
+        };
+    }
+
+    private static void skipString(DataInputStream input) throws IOException {
+        input.skipNBytes(input.readUnsignedShort());
+    }
+
+    private static int length(DataInputStream input) throws IOException {
+        var length = input.readInt();
+        if (length < 0) throw new IOException("Negative length " + length);
+        return length;
+    }
+}
@@ -0,0 +1,284 @@
+package net.thenextlvl.worlds.pool;
+
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.pool.TemplatePool;
+import net.thenextlvl.worlds.io.FileCopier;
+import net.thenextlvl.worlds.io.FileDeleter;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@NullMarked
+public class PaperTemplatePool implements TemplatePool {
+    private final Queue<Instance> ready = new ArrayDeque<>();
+    private final Queue<CompletableFuture<World>> waiting = new ArrayDeque<>();
+    private final Map<String, Instance> leased = new HashMap<>();
+    private final Set<String> directories = ConcurrentHashMap.newKeySet();
+    private final WorldsPlugin plugin;
+    private final Key template;
+
+    private volatile int size;
+    private volatile boolean preload;
+    private boolean disposed;
+    private int preparing;
+    private int counter;
+
+    public PaperTemplatePool(WorldsPlugin plugin, Key template, int size, boolean preload) {
+        this.plugin = plugin;
+        this.template = template;
+        this.size = size;
+        this.preload = preload;
+    }
+
+    @Override
+    public Key template() {
+        return template;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean preload() {
+        return preload;
+    }
+
+    @Override
+    public synchronized int available() {
+        return ready.size();
+    }
+
+    @Override
+    public synchronized Set<Key> getLeasedInstances() {
+        return leased.values().stream()
+                .map(Instance::key)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public CompletableFuture<World> lease() {
+        CompletableFuture<World> future;
+        synchronized (this) {
+            if (disposed) return CompletableFuture.failedFuture(
+                    new IllegalStateException("The pool of " + template.asString() + " was removed"));
+            var instance = ready.poll();
+            if (instance != null) future = activate(instance);
+            else {
+                future = new CompletableFuture<>();
+                waiting.add(future);
+            }
+        }
+        replenish();
+        return future;
+    }
+
+    @Override
+    public boolean release(World instance) {
+        Instance released;
+        synchronized (this) {
+            released = leased.remove(instance.key().asString());
+        }
+        if (released == null) return false;
+        dispose(new Instance(released.key(), released.directory(), instance));
+        replenish();
+        return true;
+    }
+
+    public boolean isInstance(World world) {
+        return directories.contains(world.getWorldFolder().getName());
+    }
+
+    public Set<String> directories() {
+        return Set.copyOf(directories);
+    }
+
+    public void resize(int size, boolean preload) {
+        this.size = size;
+        this.preload = preload;
+        synchronized (this) {
+            while (ready.size() > size) dispose(ready.remove());
+        }
+        replenish();
+    }
+
+    public synchronized void dispose() {
+        disposed = true;
+        ready.forEach(this::dispose);
+        ready.clear();
+        waiting.forEach(future -> future.completeExceptionally(
+                new IllegalStateException("The pool of " + template.asString() + " was removed")));
+        waiting.clear();
+    }
+
+    public void replenish() {
+        int missing;
+        synchronized (this) {
+            if (disposed || preparing > 0) return;
+            missing = size + waiting.size() - ready.size();
+            if (missing <= 0) return;
+            preparing = missing;
+        }
+        plugin.loadController().load(template)
+                .thenAcceptAsync(world -> prepare(world, missing), this::execute)
+                .exceptionally(throwable -> {
+                    plugin.getComponentLogger().warn("Failed to replenish the pool of {}",
+                            template.asString(), throwable);
+                    synchronized (this) {
+                        preparing = 0;
+                    }
+                    return null;
+                });
+    }
+
+    private void prepare(World source, int count) {
+        plugin.saveFreeze().freeze(source);
+
+        var copier = new FileCopier(plugin.ioExecutor());
+        var instances = IntStream.range(0, count).mapToObj(ignored -> reserve()).toList();
+        plugin.poolController().save();
+
+        var copies = instances.stream().map(instance -> copier.copy(source.getWorldFolder().toPath(),
+                instance.directory(), FileCopier::isLevelFile, FileCopier.Mode.INSTANT
+        ).future().handleAsync((bytes, throwable) -> {
+            if (throwable != null) fail(instance, throwable);
+            else ready(instance);
+            return null;
+        }, this::execute)).toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(copies).whenCompleteAsync((ignored, throwable) -> {
+            plugin.saveFreeze().thaw(source);
+            synchronized (this) {
+                preparing = 0;
+            }
+            replenish();
+        }, this::execute);
+    }
+
+    private void ready(Instance prepared) {
+        Instance instance;
+        try {
+            instance = preload ? new Instance(prepared.key(), prepared.directory(), createWorld(prepared)) : prepared;
+        } catch (RuntimeException e) {
+            fail(prepared, e);
+            return;
+        }
+        synchronized (this) {
+            if (disposed) {
+                dispose(instance);
+                return;
+            }
+            var waiter = waiting.poll();
+            if (waiter == null) ready.add(instance);
+            else activate(instance).whenComplete((world, throwable) -> {
+                if (throwable != null) waiter.completeExceptionally(throwable);
+                else waiter.complete(world);
+            });
+        }
+    }
+
+    private CompletableFuture<World> activate(Instance instance) {
+        leased.put(instance.key().asString(), instance);
+        var world = instance.world();
+        if (world != null) return CompletableFuture.completedFuture(world);
+        var future = new CompletableFuture<World>();
+        execute(() -> {
+            try {
+                future.complete(createWorld(instance));
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    leased.remove(instance.key().asString());
+                }
+                fail(instance, e);
+                future.completeExceptionally(e);
+                replenish();
+            }
+        });
+        return future;
+    }
+
+    private World createWorld(Instance instance) {
+        var source = plugin.getServer().getWorld(template);
+        if (source == null) throw new IllegalStateException("The template " + template.asString() + " is not loaded");
+        var key = new NamespacedKey(instance.key().namespace(), instance.key().value());
+        var world = new WorldCreator(key.getKey(), key).copy(source).createWorld();
+        if (world == null) throw new IllegalStateException("Failed to create the instance " + key.asString());
+        plugin.persistWorld(world, false);
+        plugin.persistIdleTimeout(world, 0);
+        return world;
+    }
+
+    /**
+     * Checks whether the directory name follows the naming of instances of the given template.
+     */
+    public static boolean isInstanceName(Key template, String name) {
+        var base = baseName(template);
+        return name.length() > base.length() + 1 && name.startsWith(base + "-")
+               && name.substring(base.length() + 1).chars().allMatch(Character::isDigit);
+    }
+
+    private static String baseName(Key template) {
+        return template.value().replace('/', '_');
+    }
+
+    private synchronized Instance reserve() {
+        var container = plugin.getServer().getWorldContainer().toPath();
+        var base = baseName(template);
+        while (true) {
+            var name = base + "-" + ++counter;
+            if (Files.exists(container.resolve(name)) || plugin.getServer().getWorld(name) != null) continue;
+            directories.add(name);
+            return new Instance(Key.key(template.namespace(), name), container.resolve(name), null);
+        }
+    }
+
+    private void fail(Instance instance, Throwable throwable) {
+        plugin.getComponentLogger().error("Failed to prepare the instance {} of {}",
+                instance.key().asString(), template.asString(), throwable);
+        plugin.ioExecutor().execute(() -> delete(instance));
+    }
+
+    private void dispose(Instance instance) {
+        execute(() -> {
+            var world = instance.world();
+            if (world != null && !plugin.loadController().unload(world, null, false)) {
+                plugin.getComponentLogger().warn("Failed to unload the instance {}", instance.key().asString());
+                return;
+            }
+            plugin.ioExecutor().execute(() -> delete(instance));
+        });
+    }
+
+    private void delete(Instance instance) {
+        try {
+            FileDeleter.delete(instance.directory());
+            directories.remove(instance.directory().getFileName().toString());
+        } catch (IOException e) {
+            plugin.getComponentLogger().warn("Failed to delete the instance {}", instance.directory(), e);
+        }
+    }
+
+    private void execute(Runnable task) {
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    private record Instance(Key key, Path directory, @Nullable World world) {
+    }
+}
@@ -0,0 +1,149 @@
+package net.thenextlvl.worlds.pregeneration;
+
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.WorldsPlugin;
+import net.thenextlvl.worlds.api.pregeneration.Pregeneration;
+import org.bukkit.World;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+@NullMarked
+public class PaperPregeneration implements Pregeneration {
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final TreeSet<Long> completedAhead = new TreeSet<>();
+    private final Spiral spiral = new Spiral();
+    private final WorldsPlugin plugin;
+    private final Key world;
+    private final int centerX, centerZ, radius;
+    private final long total;
+
+    private long issued;
+    private long watermark;
+    private long completed;
+    private int inFlight;
+    private int concurrency = 1;
+
+    private long windowStart = System.nanoTime();
+    private long windowCompleted;
+    private double chunksPerSecond;
+
+    public PaperPregeneration(WorldsPlugin plugin, Key world, int centerX, int centerZ, int radius, long progress) {
+        this.plugin = plugin;
+        this.world = world;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.total = (2L * radius + 1) * (2L * radius + 1);
+        this.issued = this.watermark = this.completed = this.windowCompleted = Math.clamp(progress, 0, total);
+        spiral.skip(issued);
+    }
+
+    @Override
+    public Key world() {
+        return world;
+    }
+
+    @Override
+    public int centerX() {
+        return centerX;
+    }
+
+    @Override
+    public int centerZ() {
+        return centerZ;
+    }
+
+    @Override
+    public int radius() {
+        return radius;
+    }
+
+    @Override
+    public long totalChunks() {
+        return total;
+    }
+
+    @Override
+    public synchronized long completedChunks() {
+        return completed;
+    }
+
+    @Override
+    public synchronized double chunksPerSecond() {
+        return chunksPerSecond;
+    }
+
+    @Override
+    public synchronized int concurrency() {
+        return concurrency;
+    }
+
+    @Override
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Retrieves the number of leading chunks of the spiral that are all completed,
+     * which is the position the pre-generation resumes from after a restart.
+     */
+    public synchronized long progress() {
+        return watermark;
+    }
+
+    public synchronized boolean isDone() {
+        return watermark >= total;
+    }
+
+    public synchronized void tick(World world, long tick) {
+        if (tick % 20 == 0) adjustConcurrency();
+        if (tick % 100 == 0) measure();
+        while (inFlight < concurrency && issued < total) {
+            var index = issued++;
+            var chunkX = centerX + spiral.x();
+            var chunkZ = centerZ + spiral.z();
+            spiral.advance();
+            inFlight++;
+            world.getChunkAtAsync(chunkX, chunkZ, true).whenComplete((chunk, throwable) -> complete(index, throwable));
+        }
+    }
+
+    /**
+     * Additive increase, multiplicative decrease:
+     * one more request in flight per second while the server keeps up, half as many once it falls behind.
+     * Folia has no server wide tick time, so the configured maximum is used there.
+     */
+    private void adjustConcurrency() {
+        var max = plugin.settings().pregenerationMaxConcurrency();
+        if (plugin.isFolia()) {
+            concurrency = max;
+            return;
+        }
+        var mspt = plugin.getServer().getAverageTickTime();
+        if (mspt < plugin.settings().pregenerationTargetMspt()) concurrency = Math.min(max, concurrency + 1);
+        else concurrency = Math.max(1, concurrency / 2);
+    }
+
+    private void measure() {
+        var now = System.nanoTime();
+        chunksPerSecond = (completed - windowCompleted) / ((now - windowStart) / 1_000_000_000d);
+        windowCompleted = completed;
+        windowStart = now;
+    }
+
+    private synchronized void complete(long index, @Nullable Throwable throwable) {
+        if (throwable != null) plugin.getComponentLogger().debug("Failed to pre-generate a chunk of {}",
+                world.asString(), throwable);
+        inFlight--;
+        completed++;
+        if (index != watermark) {
+            completedAhead.add(index);
+            return;
+        }
+        watermark++;
+        while (completedAhead.remove(watermark)) watermark++;
+    }
+}
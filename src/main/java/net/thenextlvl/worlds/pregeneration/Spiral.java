@@ -0,0 +1,37 @@
+package net.thenextlvl.worlds.pregeneration;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Walks a square spiral around the origin.
+ * The first {@code (2r + 1)²} positions cover exactly the square of radius {@code r}.
+ */
+@NullMarked
+final class Spiral {
+    private int x, z;
+    private int dx = 1, dz = 0;
+    private int leg = 1, stepped, turns;
+
+    int x() {
+        return x;
+    }
+
+    int z() {
+        return z;
+    }
+
+    void advance() {
+        x += dx;
+        z += dz;
+        if (++stepped < leg) return;
+        stepped = 0;
+        var previous = dx;
+        dx = -dz;
+        dz = previous;
+        if (++turns % 2 == 0) leg++;
+    }
+
+    void skip(long steps) {
+        for (var i = 0L; i < steps; i++) advance();
+    }
+}
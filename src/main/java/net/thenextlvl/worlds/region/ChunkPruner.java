@@ -0,0 +1,149 @@
+package net.thenextlvl.worlds.region;
+
+import core.nbt.tag.Tag;
+import net.jpountz.lz4.LZ4BlockInputStream;
+import net.thenextlvl.worlds.nbt.FilteredNBTReader;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Removes chunks that players spent less than a given time in from an unloaded level.
+ * <p>
+ * The inhabited time is read from the chunks in the {@code region} folder, the selected chunks are then
+ * removed from the region, entity and poi files alike. The affected files are compacted afterward,
+ * so the removed chunks actually free up disk space.
+ */
+@NullMarked
+public final class ChunkPruner {
+    private static final List<String> FOLDERS = List.of("entities", "poi", "region");
+    private static final FilteredNBTReader READER = new FilteredNBTReader("InhabitedTime");
+
+    private final AtomicInteger pruned = new AtomicInteger();
+    private final Executor executor;
+
+    public ChunkPruner(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param level     the level directory, including all of its dimensions
+     * @param threshold the inhabited time in ticks below which chunks are removed
+     * @param protect   chunks that are never removed
+     */
+    public CompletableFuture<Result> prune(Path level, long threshold, RegionReset.ChunkSelection protect) {
+        return CompletableFuture.supplyAsync(() -> list(level), executor).thenCompose(regions -> {
+            var modified = regions.stream().map(region -> CompletableFuture.supplyAsync(() ->
+                    prune(region, threshold, protect), executor)).toList();
+            return CompletableFuture.allOf(modified.toArray(CompletableFuture[]::new)).thenApply(ignored ->
+                    modified.stream().flatMap(future -> future.join().stream()).toList());
+        }).thenCompose(files -> new RegionCompactor(executor).compact(files)).thenApply(result ->
+                new Result(pruned.get(), result.reclaimed()));
+    }
+
+    private List<Path> list(Path level) {
+        try (var files = Files.walk(level)) {
+            return files.filter(file -> RegionFile.position(file).isPresent())
+                    .filter(file -> file.getParent().getFileName().toString().equals("region"))
+                    .filter(Files::isRegularFile)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list region files of " + level, e);
+        }
+    }
+
+    /**
+     * @return the region files of all folders that chunks were removed from
+     */
+    private List<Path> prune(Path region, long threshold, RegionReset.ChunkSelection protect) {
+        try {
+            var selected = select(region, threshold, protect);
+            if (selected.isEmpty()) return List.of();
+            pruned.addAndGet(selected.size());
+
+            var modified = new ArrayList<Path>();
+            var dimension = region.getParent().getParent();
+            for (var folder : FOLDERS) {
+                var file = dimension.resolve(folder).resolve(region.getFileName());
+                if (Files.isRegularFile(file) && clear(file, selected)) modified.add(file);
+            }
+            return modified;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prune " + region, e);
+        }
+    }
+
+    private List<Integer> select(Path file, long threshold, RegionReset.ChunkSelection protect) throws IOException {
+        var selected = new ArrayList<Integer>();
+        try (var region = RegionFile.open(file, false)) {
+            for (var index = 0; index < RegionFile.CHUNKS; index++) {
+                if (!region.hasChunk(index)) continue;
+                if (protect.contains(region.chunkX(index), region.chunkZ(index))) continue;
+                try {
+                    if (inhabitedTime(file.getParent(), region, index) < threshold) selected.add(index);
+                } catch (IOException ignored) {
+                    // chunks that can't be read are kept, the server decides what to do with them
+                }
+            }
+        }
+        return selected;
+    }
+
+    private boolean clear(Path file, List<Integer> selected) throws IOException {
+        var cleared = false;
+        try (var region = RegionFile.open(file, true)) {
+            for (var index : selected) {
+                if (!region.hasChunk(index)) continue;
+                Files.deleteIfExists(external(file.getParent(), region, index));
+                region.clear(index);
+                cleared = true;
+            }
+        }
+        return cleared;
+    }
+
+    private long inhabitedTime(Path folder, RegionFile region, int index) throws IOException {
+        var payload = region.readPayload(index);
+        var type = payload[0];
+        var data = (type & 0x80) != 0
+                ? Files.newInputStream(external(folder, region, index))
+                : new ByteArrayInputStream(payload, 1, payload.length - 1);
+        try (var input = new DataInputStream(new BufferedInputStream(decompress(type & 0x7F, data)))) {
+            return READER.read(input).<Tag>optional("InhabitedTime").map(Tag::getAsLong).orElse(0L);
+        }
+    }
+
+    private InputStream decompress(int type, InputStream data) throws IOException {
+        return switch (type) {
+            case 1 -> new GZIPInputStream(data);
+            case 2 -> new InflaterInputStream(data);
+            case 3 -> data;
+            case 4 -> new LZ4BlockInputStream(data);
+            default -> {
+                data.close();
+                throw new IOException("Unknown compression type " + type);
+            }
+        };
+    }
+
+    private Path external(Path folder, RegionFile region, int index) {
+        return folder.resolve("c." + region.chunkX(index) + "." + region.chunkZ(index) + ".mcc");
+    }
+
+    public record Result(int chunks, long bytes) {
+    }
+}
@@ -0,0 +1,70 @@
+package net.thenextlvl.worlds.region;
+
+import net.thenextlvl.worlds.io.FileCopier;
+import org.jspecify.annotations.NullMarked;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * An inclusive rectangle of block columns, used to select the region files that intersect it.
+ */
+@NullMarked
+public record RegionBounds(int minX, int minZ, int maxX, int maxZ) implements Predicate<Path> {
+    private static final Set<String> REGION_FOLDERS = Set.of("entities", "poi", "region");
+    private static final Pattern REGION_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final Pattern CHUNK_FILE = Pattern.compile("c\\.(-?\\d+)\\.(-?\\d+)\\.mcc");
+
+    public RegionBounds {
+        if (minX > maxX || minZ > maxZ) throw new IllegalArgumentException("Minimum exceeds maximum");
+    }
+
+    public static RegionBounds of(int x1, int z1, int x2, int z2) {
+        return new RegionBounds(Math.min(x1, x2), Math.min(z1, z2), Math.max(x1, x2), Math.max(z1, z2));
+    }
+
+    public static RegionBounds around(int x, int z, int radius) {
+        return of(x - radius, z - radius, x + radius, z + radius);
+    }
+
+    public boolean intersectsRegion(int regionX, int regionZ) {
+        return intersects((long) regionX << 9, (long) regionZ << 9,
+                ((long) regionX << 9) + 511, ((long) regionZ << 9) + 511);
+    }
+
+    public boolean intersectsChunk(int chunkX, int chunkZ) {
+        return intersects((long) chunkX << 4, (long) chunkZ << 4,
+                ((long) chunkX << 4) + 15, ((long) chunkZ << 4) + 15);
+    }
+
+    private boolean intersects(long minX, long minZ, long maxX, long maxZ) {
+        return minX <= this.maxX && maxX >= this.minX && minZ <= this.maxZ && maxZ >= this.minZ;
+    }
+
+    /**
+     * Tests a path relative to a level directory.
+     * Region and oversized chunk files are only accepted if they intersect these bounds,
+     * any other file is accepted if it belongs to the level.
+     */
+    @Override
+    public boolean test(Path relative) {
+        if (!FileCopier.isLevelFile(relative)) return false;
+        var parent = relative.getParent();
+        if (parent == null || !REGION_FOLDERS.contains(parent.getFileName().toString())) return true;
+        var name = relative.getFileName().toString();
+        try {
+            var region = REGION_FILE.matcher(name);
+            if (region.matches()) return intersectsRegion(
+                    Integer.parseInt(region.group(1)), Integer.parseInt(region.group(2)));
+            var chunk = CHUNK_FILE.matcher(name);
+            if (chunk.matches()) return intersectsChunk(
+                    Integer.parseInt(chunk.group(1)), Integer.parseInt(chunk.group(2)));
+        } catch (NumberFormatException e) {
+            // coordinates outside the int range can't belong to any chunk of the level
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+package net.thenextlvl.worlds.region;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Rewrites the region files of an unloaded level with tightly packed sectors.
+ * <p>
+ * Chunks are written in index order right after the header, dropping the unused sectors
+ * that accumulate while the server rewrites chunks in place. Every file is written next to the original
+ * and only replaces it once complete, region files without any chunks are removed.
+ */
+@NullMarked
+public final class RegionCompactor {
+    private final AtomicInteger compacted = new AtomicInteger();
+    private final AtomicLong before = new AtomicLong();
+    private final AtomicLong after = new AtomicLong();
+    private final Executor executor;
+
+    public RegionCompactor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Result> compact(Path level) {
+        return CompletableFuture.supplyAsync(() -> list(level), executor).thenCompose(this::compact);
+    }
+
+    public CompletableFuture<Result> compact(List<Path> files) {
+        return CompletableFuture.allOf(files.stream().map(file ->
+                CompletableFuture.runAsync(() -> compact(file), executor)
+        ).toArray(CompletableFuture[]::new)).thenApply(ignored ->
+                new Result(files.size(), compacted.get(), before.get(), after.get()));
+    }
+
+    private List<Path> list(Path level) {
+        try (var files = Files.walk(level)) {
+            return files.filter(file -> RegionFile.position(file).isPresent())
+                    .filter(Files::isRegularFile)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list region files of " + level, e);
+        }
+    }
+
+    private void compact(Path file) {
+        var temporary = file.resolveSibling(file.getFileName() + ".compact");
+        try {
+            var size = Files.size(file);
+            if (size < RegionFile.SECTOR_BYTES * 2) return;
+            long written;
+            try (var region = RegionFile.open(file, false)) {
+                written = region.chunkCount() > 0 ? write(region, temporary) : 0;
+            }
+            if (written == 0) {
+                Files.delete(file);
+                record(size, 0);
+            } else if (written < size) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                record(size, written);
+            } else Files.delete(temporary);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+            }
+            throw new UncheckedIOException("Failed to compact " + file, e);
+        }
+    }
+
+    private long write(RegionFile region, Path target) throws IOException {
+        var header = ByteBuffer.allocate(RegionFile.SECTOR_BYTES * 2);
+        var sector = 2;
+        try (var channel = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            for (var index = 0; index < RegionFile.CHUNKS; index++) {
+                if (!region.hasChunk(index)) continue;
+                var length = region.length(index);
+                var sectors = Math.ceilDiv(length + 4, RegionFile.SECTOR_BYTES);
+                var position = (long) sector * RegionFile.SECTOR_BYTES;
+                write(channel, ByteBuffer.allocate(4).putInt(0, length), position);
+                transfer(region, index, channel, position + 4, length);
+                header.putInt(index * 4, sector << 8 | sectors);
+                header.putInt(RegionFile.SECTOR_BYTES + index * 4, region.timestamp(index));
+                sector += sectors;
+            }
+            write(channel, header, 0);
+            write(channel, ByteBuffer.allocate(1), (long) sector * RegionFile.SECTOR_BYTES - 1);
+            channel.force(true);
+        }
+        return (long) sector * RegionFile.SECTOR_BYTES;
+    }
+
+    private void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) channel.write(buffer, position + buffer.position());
+    }
+
+    private void transfer(RegionFile region, int index, FileChannel channel, long position, int length) throws IOException {
+        var source = (long) region.sectorOffset(index) * RegionFile.SECTOR_BYTES + 4;
+        var transferred = 0L;
+        while (transferred < length) {
+            var count = region.channel().transferTo(source + transferred, length - transferred,
+                    channel.position(position + transferred));
+            if (count <= 0) throw new IOException("Unexpected end of chunk " + index);
+            transferred += count;
+        }
+    }
+
+    private void record(long size, long written) {
+        compacted.incrementAndGet();
+        before.addAndGet(size);
+        after.addAndGet(written);
+    }
+
+    public record Result(int files, int compacted, long before, long after) {
+        public long reclaimed() {
+            return before - after;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package net.thenextlvl.worlds.region;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Minimal access to the header of an anvil region file.
+ * <p>
+ * The first sector holds the location of each of the 1024 chunks as a three byte sector offset
+ * followed by a one byte sector count, the second sector holds their last modification timestamps.
+ */
+@NullMarked
+public final class RegionFile implements Closeable {
+    public static final int SECTOR_BYTES = 4096;
+    public static final int CHUNKS = 1024;
+
+    private static final Pattern NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+
+    private final ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES * 2);
+    private final FileChannel channel;
+    private final int regionX, regionZ;
+    private boolean modified;
+
+    private RegionFile(FileChannel channel, int regionX, int regionZ) throws IOException {
+        this.channel = channel;
+        this.regionX = regionX;
+        this.regionZ = regionZ;
+        while (header.hasRemaining()) if (channel.read(header, header.position()) < 0) break;
+        header.clear();
+    }
+
+    public static RegionFile open(Path path, boolean write) throws IOException {
+        var position = position(path).orElseThrow(() -> new IOException("Not a region file: " + path));
+        var channel = write ? FileChannel.open(path, READ, WRITE) : FileChannel.open(path, READ);
+        try {
+            return new RegionFile(channel, position[0], position[1]);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the region coordinates from the name of a region file.
+     *
+     * @return an optional containing the region x and z coordinate, empty if the coordinates are out of range
+     */
+    public static Optional<int[]> position(Path path) {
+        var matcher = NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) return Optional.empty();
+        try {
+            return Optional.of(new int[]{Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))});
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public int regionX() {
+        return regionX;
+    }
+
+    public int regionZ() {
+        return regionZ;
+    }
+
+    public int chunkX(int index) {
+        return (regionX << 5) + (index & 31);
+    }
+
+    public int chunkZ(int index) {
+        return (regionZ << 5) + (index >> 5);
+    }
+
+    public int location(int index) {
+        return header.getInt(index * 4);
+    }
+
+    public boolean hasChunk(int index) {
+        return header.getInt(index * 4) != 0;
+    }
+
+    public int sectorOffset(int index) {
+        return header.getInt(index * 4) >>> 8;
+    }
+
+    public int sectorCount(int index) {
+        return header.getInt(index * 4) & 0xFF;
+    }
+
+    public int timestamp(int index) {
+        return header.getInt(SECTOR_BYTES + index * 4);
+    }
+
+    public int chunkCount() {
+        var count = 0;
+        for (var index = 0; index < CHUNKS; index++) if (hasChunk(index)) count++;
+        return count;
+    }
+
+    /**
+     * Reads the stored payload of a chunk, consisting of the compression type followed by the compressed data.
+     */
+    public byte[] readPayload(int index) throws IOException {
+        return read((long) sectorOffset(index) * SECTOR_BYTES + 4, length(index)).array();
+    }
+
+    /**
+     * Reads the length of the stored payload of a chunk, which precedes the payload in its first sector.
+     */
+    public int length(int index) throws IOException {
+        var length = read((long) sectorOffset(index) * SECTOR_BYTES, 4).getInt(0);
+        if (length <= 0 || length > sectorCount(index) * SECTOR_BYTES)
+            throw new IOException("Invalid length " + length + " of chunk " + index);
+        return length;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+                throw new IOException("Unexpected end of region file");
+        }
+        return buffer;
+    }
+
+    /**
+     * Removes the chunk from the header, the server generates it anew the next time it is loaded.
+     * The sectors it occupied are left as unused space.
+     */
+    public void clear(int index) {
+        header.putInt(index * 4, 0);
+        header.putInt(SECTOR_BYTES + index * 4, 0);
+        modified = true;
+    }
+
+    public FileChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            if (!modified) return;
+            header.clear();
+            while (header.hasRemaining()) channel.write(header, header.position());
+            channel.force(false);
+        }
+    }
+}
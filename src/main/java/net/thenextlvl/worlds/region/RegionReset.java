@@ -0,0 +1,101 @@
+package net.thenextlvl.worlds.region;
+
+import net.thenextlvl.worlds.io.TrashBin;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resets selected chunks of a dimension so the server generates them anew.
+ * <p>
+ * Region files that lie completely inside the selection are moved into the trash,
+ * partially selected ones only lose the header entries of the selected chunks.
+ * The amount of work is proportional to the reset area, not to the size of the world.
+ */
+@NullMarked
+public final class RegionReset {
+    private static final List<String> FOLDERS = List.of("entities", "poi", "region");
+    private static final Pattern CHUNK_FILE = Pattern.compile("c\\.(-?\\d+)\\.(-?\\d+)\\.mcc");
+
+    private final TrashBin trash;
+
+    public RegionReset(TrashBin trash) {
+        this.trash = trash;
+    }
+
+    public Result reset(Path dimension, ChunkSelection selection) throws IOException {
+        var regions = 0;
+        var chunks = 0;
+        for (var folder : FOLDERS) {
+            var directory = dimension.resolve(folder);
+            if (!Files.isDirectory(directory)) continue;
+            List<Path> files;
+            try (var list = Files.list(directory)) {
+                files = list.toList();
+            }
+            for (var file : files) {
+                var position = RegionFile.position(file);
+                if (position.isEmpty()) {
+                    resetExternalChunk(file, selection);
+                    continue;
+                }
+                var regionX = position.get()[0];
+                var regionZ = position.get()[1];
+                var selected = selected(regionX, regionZ, selection);
+                if (selected == 0) continue;
+                if (selected == RegionFile.CHUNKS) {
+                    trash.trash(file);
+                    if (folder.equals("region")) regions++;
+                    continue;
+                }
+                var cleared = clear(file, selection);
+                if (folder.equals("region")) chunks += cleared;
+            }
+        }
+        return new Result(regions, chunks);
+    }
+
+    private int selected(int regionX, int regionZ, ChunkSelection selection) {
+        var selected = 0;
+        for (var index = 0; index < RegionFile.CHUNKS; index++)
+            if (selection.contains((regionX << 5) + (index & 31), (regionZ << 5) + (index >> 5))) selected++;
+        return selected;
+    }
+
+    private int clear(Path file, ChunkSelection selection) throws IOException {
+        try (var region = RegionFile.open(file, true)) {
+            var cleared = 0;
+            for (var index = 0; index < RegionFile.CHUNKS; index++) {
+                if (!region.hasChunk(index)) continue;
+                if (!selection.contains(region.chunkX(index), region.chunkZ(index))) continue;
+                region.clear(index);
+                cleared++;
+            }
+            return cleared;
+        }
+    }
+
+    private void resetExternalChunk(Path file, ChunkSelection selection) throws IOException {
+        var matcher = CHUNK_FILE.matcher(file.getFileName().toString());
+        if (!matcher.matches()) return;
+        try {
+            var chunkX = Integer.parseInt(matcher.group(1));
+            var chunkZ = Integer.parseInt(matcher.group(2));
+            if (selection.contains(chunkX, chunkZ)) trash.trash(file);
+        } catch (NumberFormatException ignored) {
+            // coordinates outside the int range can't belong to any chunk of the level
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkSelection {
+        boolean contains(int chunkX, int chunkZ);
+    }
+
+    public record Result(int regions, int chunks) {
+    }
+}
@@ -0,0 +1,96 @@
+package net.thenextlvl.worlds.snapshot;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A content-addressed blob store, every blob is stored once under the SHA-256 hash of its content.
+ */
+@NullMarked
+public class ChunkStore {
+    private final Path directory;
+
+    public ChunkStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    public Path path(byte[] hash) {
+        var hex = HexFormat.of().formatHex(hash);
+        return directory.resolve(hex.substring(0, 2)).resolve(hex);
+    }
+
+    public boolean contains(byte[] hash) {
+        return Files.isRegularFile(path(hash));
+    }
+
+    /**
+     * Stores the given data under its hash.
+     *
+     * @return true if the blob was not stored before
+     */
+    public boolean put(byte[] hash, byte[] data) throws IOException {
+        var path = path(hash);
+        if (Files.isRegularFile(path)) return false;
+        Files.createDirectories(path.getParent());
+        var temp = Files.createTempFile(path.getParent(), "blob", ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Hashes the content of the given file while copying it into the store.
+     *
+     * @return the hash of the file
+     */
+    public byte[] putFile(Path file) throws IOException {
+        Files.createDirectories(directory);
+        var temp = Files.createTempFile(directory, "blob", ".tmp");
+        try {
+            var digest = digest();
+            try (var input = new DigestInputStream(Files.newInputStream(file), digest)) {
+                Files.copy(input, temp, REPLACE_EXISTING);
+            }
+            var hash = digest.digest();
+            var path = path(hash);
+            if (!Files.isRegularFile(path)) {
+                Files.createDirectories(path.getParent());
+                Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            }
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public InputStream open(byte[] hash) throws IOException {
+        return Files.newInputStream(path(hash));
+    }
+
+    public byte[] read(byte[] hash) throws IOException {
+        return Files.readAllBytes(path(hash));
+    }
+}
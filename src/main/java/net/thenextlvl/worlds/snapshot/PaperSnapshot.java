@@ -0,0 +1,11 @@
+package net.thenextlvl.worlds.snapshot;
+
+import net.kyori.adventure.key.Key;
+import net.thenextlvl.worlds.api.snapshot.Snapshot;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Instant;
+
+@NullMarked
+public record PaperSnapshot(String id, Key world, Instant created, int chunks, int files) implements Snapshot {
+}
@@ -0,0 +1,142 @@
+package net.thenextlvl.worlds.snapshot;
+
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The content of a snapshot, mapping every file and every chunk of the level to a blob in the {@link ChunkStore}.
+ * <p>
+ * Manifests are stored as gzip compressed binary files, since large worlds reference hundreds of thousands of chunks.
+ */
+@NullMarked
+public record SnapshotManifest(
+        PaperSnapshot snapshot,
+        Map<String, FileEntry> files,
+        Map<String, RegionEntry> regions
+) {
+    private static final int MAGIC = 0x574C4453;
+    private static final int VERSION = 1;
+    private static final int HASH_BYTES = 32;
+
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        var temp = Files.createTempFile(path.getParent(), "manifest", ".tmp");
+        try {
+            try (var output = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                writeHeader(output);
+                output.writeInt(files.size());
+                for (var entry : files.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeLong(entry.getValue().size());
+                    output.writeLong(entry.getValue().modified());
+                    output.write(entry.getValue().hash());
+                }
+                output.writeInt(regions.size());
+                for (var entry : regions.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeLong(entry.getValue().size());
+                    output.writeLong(entry.getValue().modified());
+                    output.writeInt(entry.getValue().chunks().size());
+                    for (var chunk : entry.getValue().chunks()) {
+                        output.writeShort(chunk.index());
+                        output.writeInt(chunk.location());
+                        output.writeInt(chunk.timestamp());
+                        output.write(chunk.hash());
+                    }
+                }
+            }
+            Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeHeader(DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeUTF(snapshot.id());
+        output.writeUTF(snapshot.world().asString());
+        output.writeLong(snapshot.created().toEpochMilli());
+        output.writeInt(snapshot.chunks());
+        output.writeInt(snapshot.files());
+    }
+
+    public static PaperSnapshot readHeader(Path path) throws IOException {
+        try (var input = open(path)) {
+            return readHeader(input, path);
+        }
+    }
+
+    public static SnapshotManifest read(Path path) throws IOException {
+        try (var input = open(path)) {
+            var snapshot = readHeader(input, path);
+            var fileCount = input.readInt();
+            var files = new LinkedHashMap<String, FileEntry>(fileCount);
+            for (var i = 0; i < fileCount; i++) files.put(input.readUTF(),
+                    new FileEntry(input.readLong(), input.readLong(), input.readNBytes(HASH_BYTES)));
+            var regionCount = input.readInt();
+            var regions = new LinkedHashMap<String, RegionEntry>(regionCount);
+            for (var i = 0; i < regionCount; i++) {
+                var name = input.readUTF();
+                var size = input.readLong();
+                var modified = input.readLong();
+                var chunkCount = input.readInt();
+                var chunks = new ArrayList<ChunkEntry>(chunkCount);
+                for (var j = 0; j < chunkCount; j++) chunks.add(new ChunkEntry(input.readUnsignedShort(),
+                        input.readInt(), input.readInt(), input.readNBytes(HASH_BYTES)));
+                regions.put(name, new RegionEntry(size, modified, chunks));
+            }
+            return new SnapshotManifest(snapshot, files, regions);
+        }
+    }
+
+    private static DataInputStream open(Path path) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))));
+    }
+
+    private static PaperSnapshot readHeader(DataInputStream input, Path path) throws IOException {
+        if (input.readInt() != MAGIC) throw new IOException("Not a snapshot manifest: " + path);
+        var version = input.readInt();
+        if (version != VERSION) throw new IOException("Unsupported snapshot version " + version + ": " + path);
+        var id = input.readUTF();
+        var world = Key.key(input.readUTF());
+        var created = Instant.ofEpochMilli(input.readLong());
+        return new PaperSnapshot(id, world, created, input.readInt(), input.readInt());
+    }
+
+    public record FileEntry(long size, long modified, byte[] hash) {
+    }
+
+    public record RegionEntry(long size, long modified, List<ChunkEntry> chunks) {
+    }
+
+    /**
+     * A chunk of a region file.
+     *
+     * @param index     the index of the chunk within the region
+     * @param location  the raw header location, used to detect changes without reading the chunk
+     * @param timestamp the last modification timestamp from the region header
+     * @param hash      the hash of the chunk payload, including its compression type
+     */
+    public record ChunkEntry(int index, int location, int timestamp, byte[] hash) {
+    }
+}
@@ -0,0 +1,102 @@
+package net.thenextlvl.worlds.snapshot;
+
+import net.thenextlvl.worlds.region.RegionFile;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Reconstructs a level directory from a {@link SnapshotManifest},
+ * streaming the stored chunks straight into newly laid out region files.
+ */
+@NullMarked
+public class SnapshotRestorer {
+    private final ChunkStore store;
+    private final Executor executor;
+
+    public SnapshotRestorer(ChunkStore store, Executor executor) {
+        this.store = store;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> restore(SnapshotManifest manifest, Path target) {
+        var files = manifest.files().entrySet().stream().map(entry -> CompletableFuture.runAsync(() ->
+                copy(entry.getValue().hash(), target.resolve(entry.getKey())), executor));
+        var regions = manifest.regions().entrySet().stream().map(entry -> CompletableFuture.runAsync(() ->
+                writeRegion(target.resolve(entry.getKey()), entry.getValue().chunks()), executor));
+        return CompletableFuture.allOf(Stream.concat(files, regions).toArray(CompletableFuture[]::new));
+    }
+
+    private void copy(byte[] hash, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(store.path(hash), target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore " + target, e);
+        }
+    }
+
+    /**
+     * Lays out the chunks in index order, each starting at a sector boundary right after the previous one.
+     * The header is written first, since the sector count of every chunk follows from the size of its blob.
+     */
+    private void writeRegion(Path target, List<SnapshotManifest.ChunkEntry> entries) {
+        var chunks = entries.stream().sorted(Comparator.comparingInt(SnapshotManifest.ChunkEntry::index)).toList();
+        try {
+            Files.createDirectories(target.getParent());
+            var header = ByteBuffer.allocate(RegionFile.SECTOR_BYTES * 2);
+            var lengths = new int[chunks.size()];
+            var sector = 2;
+            for (var i = 0; i < chunks.size(); i++) {
+                var chunk = chunks.get(i);
+                lengths[i] = Math.toIntExact(Files.size(store.path(chunk.hash())));
+                var sectors = Math.ceilDiv(lengths[i] + 4, RegionFile.SECTOR_BYTES);
+                if (sectors > 255) throw new IOException("Chunk " + chunk.index() + " exceeds 255 sectors");
+                header.putInt(chunk.index() * 4, sector << 8 | sectors);
+                header.putInt(RegionFile.SECTOR_BYTES + chunk.index() * 4, chunk.timestamp());
+                sector += sectors;
+            }
+            try (var channel = FileChannel.open(target, CREATE_NEW, WRITE)) {
+                write(channel, header, 0);
+                for (var i = 0; i < chunks.size(); i++) {
+                    var position = (long) (header.getInt(chunks.get(i).index() * 4) >>> 8) * RegionFile.SECTOR_BYTES;
+                    write(channel, ByteBuffer.allocate(4).putInt(0, lengths[i]), position);
+                    transfer(store.path(chunks.get(i).hash()), channel, position + 4, lengths[i]);
+                }
+                write(channel, ByteBuffer.allocate(1), (long) sector * RegionFile.SECTOR_BYTES - 1);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore region " + target, e);
+        }
+    }
+
+    private void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) channel.write(buffer, position + buffer.position());
+    }
+
+    private void transfer(Path blob, FileChannel channel, long position, int length) throws IOException {
+        try (var source = FileChannel.open(blob, READ)) {
+            var transferred = 0L;
+            while (transferred < length) {
+                var count = source.transferTo(transferred, length - transferred, channel.position(position + transferred));
+                if (count <= 0) throw new IOException("Unexpected end of chunk " + blob);
+                transferred += count;
+            }
+        }
+    }
+}
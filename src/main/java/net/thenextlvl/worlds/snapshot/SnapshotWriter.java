@@ -0,0 +1,155 @@
+package net.thenextlvl.worlds.snapshot;
+
+import net.thenextlvl.worlds.io.FileCopier;
+import net.thenextlvl.worlds.region.RegionFile;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the content of a level directory into the {@link ChunkStore}.
+ * <p>
+ * Region files that did not change since the previous snapshot are skipped entirely,
+ * chunks whose header location and timestamp did not change are referenced without being read.
+ */
+@NullMarked
+public class SnapshotWriter {
+    static final Set<String> REGION_FOLDERS = Set.of("entities", "poi", "region");
+
+    private final AtomicInteger storedChunks = new AtomicInteger();
+    private final AtomicInteger reusedChunks = new AtomicInteger();
+    private final ChunkStore store;
+    private final Executor executor;
+
+    public SnapshotWriter(ChunkStore store, Executor executor) {
+        this.store = store;
+        this.executor = executor;
+    }
+
+    public int storedChunks() {
+        return storedChunks.get();
+    }
+
+    public int reusedChunks() {
+        return reusedChunks.get();
+    }
+
+    public CompletableFuture<SnapshotManifest> write(Path level, PaperSnapshot snapshot,
+                                                     @Nullable SnapshotManifest previous) {
+        var files = new ConcurrentHashMap<String, SnapshotManifest.FileEntry>();
+        var regions = new ConcurrentHashMap<String, SnapshotManifest.RegionEntry>();
+        return CompletableFuture.supplyAsync(() -> list(level), executor).thenCompose(paths -> {
+            var tasks = paths.stream().map(path -> CompletableFuture.runAsync(() -> {
+                var relative = relative(level, path);
+                if (isRegion(level, path)) regions.put(relative, region(path,
+                        previous != null ? previous.regions().get(relative) : null));
+                else files.put(relative, file(path, previous != null ? previous.files().get(relative) : null));
+            }, executor)).toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(tasks);
+        }).thenApply(ignored -> {
+            var chunks = regions.values().stream().mapToInt(region -> region.chunks().size()).sum();
+            return new SnapshotManifest(
+                    new PaperSnapshot(snapshot.id(), snapshot.world(), snapshot.created(), chunks, files.size()),
+                    new TreeMap<>(files), new TreeMap<>(regions));
+        });
+    }
+
+    private SnapshotManifest.RegionEntry region(Path path, SnapshotManifest.@Nullable RegionEntry previous) {
+        try {
+            var size = Files.size(path);
+            var modified = Files.getLastModifiedTime(path).toMillis();
+            if (previous != null && previous.size() == size && previous.modified() == modified) {
+                reusedChunks.addAndGet(previous.chunks().size());
+                return previous;
+            }
+            var known = new HashMap<Integer, SnapshotManifest.ChunkEntry>();
+            if (previous != null) previous.chunks().forEach(chunk -> known.put(chunk.index(), chunk));
+            var chunks = new ArrayList<SnapshotManifest.ChunkEntry>();
+            try (var region = RegionFile.open(path, false)) {
+                var digest = ChunkStore.digest();
+                for (var index = 0; index < RegionFile.CHUNKS; index++) {
+                    if (!region.hasChunk(index)) continue;
+                    var location = region.location(index);
+                    var timestamp = region.timestamp(index);
+                    var chunk = known.get(index);
+                    if (chunk != null && chunk.location() == location && chunk.timestamp() == timestamp) {
+                        reusedChunks.incrementAndGet();
+                        chunks.add(chunk);
+                        continue;
+                    }
+                    var payload = region.readPayload(index);
+                    var hash = digest.digest(payload);
+                    if (store.put(hash, payload)) storedChunks.incrementAndGet();
+                    else reusedChunks.incrementAndGet();
+                    chunks.add(new SnapshotManifest.ChunkEntry(index, location, timestamp, hash));
+                }
+            }
+            return new SnapshotManifest.RegionEntry(size, modified, chunks);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to snapshot region " + path, e);
+        }
+    }
+
+    private SnapshotManifest.FileEntry file(Path path, SnapshotManifest.@Nullable FileEntry previous) {
+        try {
+            var size = Files.size(path);
+            var modified = Files.getLastModifiedTime(path).toMillis();
+            if (previous != null && previous.size() == size && previous.modified() == modified
+                && store.contains(previous.hash())) return previous;
+            return new SnapshotManifest.FileEntry(size, modified, store.putFile(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to snapshot file " + path, e);
+        }
+    }
+
+    private List<Path> list(Path level) {
+        try {
+            var files = new ArrayList<Path>();
+            Files.walkFileTree(level, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    if (dir.equals(level)) return FileVisitResult.CONTINUE;
+                    return FileCopier.isLevelFile(level.relativize(dir))
+                            ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && FileCopier.isLevelFile(level.relativize(file)))
+                        files.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list files of " + level, e);
+        }
+    }
+
+    static boolean isRegion(Path level, Path path) {
+        var parent = level.relativize(path).getParent();
+        return parent != null && REGION_FOLDERS.contains(parent.getFileName().toString())
+               && RegionFile.position(path).isPresent();
+    }
+
+    static String relative(Path level, Path path) {
+        return level.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,16 @@
+package net.thenextlvl.worlds.usage;
+
+import net.thenextlvl.worlds.api.usage.DiskUsage;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.File;
+import java.util.Locale;
+
+@NullMarked
+public record PaperDiskUsage(
+        File level, long total, long region, long entities, long poi, long data, long dimensions, long other
+) implements DiskUsage {
+    public static String format(long bytes) {
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024d * 1024d));
+    }
+}
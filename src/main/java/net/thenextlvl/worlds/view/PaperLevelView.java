@@ -16,13 +16,16 @@ import net.thenextlvl.worlds.api.preset.Biome;
 import net.thenextlvl.worlds.api.preset.Layer;
 import net.thenextlvl.worlds.api.preset.Preset;
 import net.thenextlvl.worlds.api.preset.Structure;
+import net.thenextlvl.worlds.api.statistics.LifecycleOperation;
 import net.thenextlvl.worlds.api.view.LevelView;
+import net.thenextlvl.worlds.nbt.FilteredNBTReader;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.craftbukkit.CraftWorld;
 import org.jspecify.annotations.NullMarked;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Optional;
@@ -46,6 +49,8 @@ public class PaperLevelView implements LevelView {
 
     @Override
     public boolean isLevel(File file) {
+        // hidden directories are trashed or half restored levels that must never be loaded
+        if (file.getName().startsWith(".")) return false;
         return file.isDirectory() && (new File(file, "level.dat").isFile() || new File(file, "level.dat_old").isFile());
     }
 
@@ -61,9 +66,10 @@ public class PaperLevelView implements LevelView {
 
     @Override
     public boolean canLoad(File level) {
+        var path = level.toPath().toAbsolutePath().normalize();
         return plugin.getServer().getWorlds().stream()
-                .map(World::getWorldFolder)
-                .noneMatch(level::equals);
+                .map(world -> world.getWorldFolder().toPath().toAbsolutePath().normalize())
+                .noneMatch(path::equals);
     }
 
     @Override
@@ -89,8 +95,16 @@ public class PaperLevelView implements LevelView {
                             .map(serialized -> Generator.deserialize(plugin, serialized));
                     var enabled = values.optional("worlds:enabled")
                             .map(Tag::getAsBoolean);
+                    var lazy = values.optional("worlds:lazy")
+                            .map(Tag::getAsBoolean);
+                    var priority = values.optional("worlds:priority")
+                            .map(Tag::getAsInt);
+                    var defer = values.optional("worlds:defer")
+                            .map(Tag::getAsInt);
                     if (key.isEmpty() && generator.isEmpty() && enabled.isEmpty()) return null;
-                    return new LevelExtras(key.orElse(null), generator.orElse(null), enabled.orElse(false));
+                    return new LevelExtras(key.orElse(null), generator.orElse(null),
+                            enabled.orElse(false), lazy.orElse(false),
+                            priority.orElse(0), defer.orElse(0));
                 });
     }
 
@@ -146,6 +160,14 @@ public class PaperLevelView implements LevelView {
         return Optional.of(pluginLoader.getPlugin().getName());
     }
 
+    @Override
+    public CompoundTag readLevelData(File level, String... paths) throws IOException {
+        var data = new File(level, "level.dat");
+        if (!data.isFile()) data = new File(level, "level.dat_old");
+        if (!data.isFile()) return new CompoundTag();
+        return new FilteredNBTReader(paths).readCompressed(data);
+    }
+
     @Override
     public NBTFile<CompoundTag> getLevelDataFile(File level) {
         return new NBTFile<>(Optional.of(
@@ -216,15 +238,18 @@ public class PaperLevelView implements LevelView {
 
     @Override
     public void saveLevelData(World world, boolean async) {
-        var level = ((CraftWorld) world).getHandle();
-        if (level.getDragonFight() != null) {
-            level.serverLevelData.setEndDragonFightData(level.getDragonFight().saveData());
-        }
-        var save = level.getChunkSource().getDataStorage().scheduleSave();
-        if (!async) save.join();
-
-        level.serverLevelData.setWorldBorder(level.getWorldBorder().createSettings());
-        level.serverLevelData.setCustomBossEvents(level.getServer().getCustomBossEvents().save(level.registryAccess()));
-        level.getChunkSource().getDataStorage().saveAndJoin();
+        plugin.statisticsController().time(world.key(), LifecycleOperation.SAVE_LEVEL_DATA, () -> {
+            var level = ((CraftWorld) world).getHandle();
+            if (level.getDragonFight() != null) {
+                level.serverLevelData.setEndDragonFightData(level.getDragonFight().saveData());
+            }
+            var save = level.getChunkSource().getDataStorage().scheduleSave();
+            if (!async) save.join();
+
+            level.serverLevelData.setWorldBorder(level.getWorldBorder().createSettings());
+            level.serverLevelData.setCustomBossEvents(level.getServer().getCustomBossEvents().save(level.registryAccess()));
+            level.getChunkSource().getDataStorage().saveAndJoin();
+            return null;
+        });
     }
 }